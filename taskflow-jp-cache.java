@@ -0,0 +1,211 @@
+// ==========================================
+// ⚙️ SecondLevelCacheProperties.java - 2次キャッシュ設定
+// パス: src/main/java/com/taskflow/global/cache/SecondLevelCacheProperties.java
+// ==========================================
+
+package com.taskflow.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2次キャッシュのリージョン別設定
+ *
+ * <pre>
+ * taskflow:
+ *   cache:
+ *     regions:
+ *       user:
+ *         maximum-size: 50000
+ *         ttl: 30m
+ * management:
+ *   endpoints:
+ *     web:
+ *       exposure:
+ *         include: health,metrics
+ * </pre>
+ * リージョン統計は /actuator/metrics/taskflow.hibernate.cache.* で確認できます
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Hibernateが更新検知に使用するリージョン（期限切れにしてはいけない）
+     */
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private boolean enabled = true;
+
+    private Map<String, Region> regions = defaultRegions();
+
+    @Getter
+    @Setter
+    public static class Region {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    private static Map<String, Region> defaultRegions() {
+        Map<String, Region> regions = new LinkedHashMap<>();
+        regions.put("user", region(10_000, Duration.ofMinutes(30)));
+        regions.put("team", region(5_000, Duration.ofMinutes(30)));
+        regions.put("teamMember", region(50_000, Duration.ofMinutes(10)));
+        regions.put("teamMemberQuery", region(10_000, Duration.ofMinutes(5)));
+        return regions;
+    }
+
+    private static Region region(long maximumSize, Duration ttl) {
+        Region region = new Region();
+        region.setMaximumSize(maximumSize);
+        region.setTtl(ttl);
+        return region;
+    }
+}
+
+
+// ==========================================
+// 🔧 SecondLevelCacheConfig.java - 2次キャッシュ設定
+// パス: src/main/java/com/taskflow/global/config/SecondLevelCacheConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.taskflow.global.cache.HibernateCacheRegionMetrics;
+import com.taskflow.global.cache.SecondLevelCacheProperties;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * JCache(Caffeine)を使用したHibernate 2次キャッシュ設定
+ * User, Team, TeamMember とメンバー検索クエリをキャッシュする
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(prefix = "taskflow.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    /**
+     * リージョン毎にサイズ/TTLを設定したCacheManager
+     * Spring Cacheとは別物のため、Bean名を分けて登録する
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateJCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+
+        // 更新タイムスタンプは期限切れにするとクエリキャッシュが古い結果を返すため無期限
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(SecondLevelCacheProperties.UPDATE_TIMESTAMPS_REGION, timestamps);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateJCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put("hibernate.cache.use_second_level_cache", true);
+            hibernateProperties.put("hibernate.cache.use_query_cache", true);
+            hibernateProperties.put("hibernate.cache.region.factory_class", "jcache");
+            hibernateProperties.put("hibernate.javax.cache.cache_manager", hibernateJCacheManager);
+            hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            hibernateProperties.put("hibernate.generate_statistics", true);
+        };
+    }
+
+    @Bean
+    public HibernateCacheRegionMetrics hibernateCacheRegionMetrics(
+            EntityManagerFactory entityManagerFactory,
+            SecondLevelCacheProperties properties) {
+        return new HibernateCacheRegionMetrics(entityManagerFactory, properties.getRegions().keySet());
+    }
+}
+
+
+// ==========================================
+// 📈 HibernateCacheRegionMetrics.java - リージョン統計のメトリクス公開
+// パス: src/main/java/com/taskflow/global/cache/HibernateCacheRegionMetrics.java
+// ==========================================
+
+package com.taskflow.global.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * 2次キャッシュのリージョン別 hit/miss/put/件数 を Actuator(Micrometer) へ公開
+ */
+public class HibernateCacheRegionMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+    private final Collection<String> regions;
+
+    public HibernateCacheRegionMetrics(EntityManagerFactory entityManagerFactory, Collection<String> regions) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.regions = regions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : regions) {
+            counter(registry, "taskflow.hibernate.cache.hits", region, CacheRegionStatistics::getHitCount);
+            counter(registry, "taskflow.hibernate.cache.misses", region, CacheRegionStatistics::getMissCount);
+            counter(registry, "taskflow.hibernate.cache.puts", region, CacheRegionStatistics::getPutCount);
+
+            Gauge.builder("taskflow.hibernate.cache.size", statistics,
+                            stats -> value(stats, region, CacheRegionStatistics::getElementCountInMemory))
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String region,
+                         ToLongFunction<CacheRegionStatistics> extractor) {
+        FunctionCounter.builder(name, statistics, stats -> value(stats, region, extractor))
+                .tag("region", region)
+                .register(registry);
+    }
+
+    /**
+     * リージョンは初回アクセス時に生成されるため、未生成の間は0を返す
+     */
+    private static double value(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> extractor) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : extractor.applyAsLong(regionStatistics);
+    }
+}
@@ -0,0 +1,270 @@
+// ==========================================
+// ⚙️ CoalescingProperties.java - 同時読み取りの集約設定
+// パス: src/main/java/com/taskflow/global/coalescing/CoalescingProperties.java
+// ==========================================
+
+package com.taskflow.global.coalescing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * @Coalesced メソッドの同時呼び出し集約（single-flight）設定
+ *
+ * <pre>
+ * taskflow:
+ *   coalescing:
+ *     enabled: true
+ *     freshness: 0       # 0の場合は実行中の呼び出しのみ共有（既定）
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 完了した結果を同じ引数の呼び出しへ返す期間（既定は0で、完了した結果は共有しない）
+     * 指定すると、更新（PUT等）の直後に同じクライアントが再取得しても更新前の結果を返す場合がある。
+     * 書き込みの直後に読み直さないAPIのみで使うこと
+     */
+    private Duration freshness = Duration.ZERO;
+
+    /**
+     * 保持する結果の上限（超えた場合は期限切れの結果を削除）
+     */
+    private int maxEntries = 10_000;
+}
+
+
+// ==========================================
+// 🤝 Coalesced.java - 同時呼び出し集約の対象
+// パス: src/main/java/com/taskflow/global/coalescing/Coalesced.java
+// ==========================================
+
+package com.taskflow.global.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 同じ引数での同時呼び出しを1回のDB読み込みにまとめ、結果を共有する
+ *
+ * 結果は複数の呼び出し元で共有されるため、変更されないDTOを返す読み取り専用メソッドにのみ付与すること
+ * （エンティティを返すメソッドには付与しない）。引数はequals/hashCodeを実装している必要がある。
+ * 呼び出し元がトランザクション中の場合は集約せずにそのまま実行する
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+}
+
+
+// ==========================================
+// 🚥 CoalescingInterceptor.java - 同時呼び出しの集約
+// パス: src/main/java/com/taskflow/global/coalescing/CoalescingInterceptor.java
+// ==========================================
+
+package com.taskflow.global.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 最初の呼び出し（リーダー）だけが実行し、実行中または完了後freshness以内に
+ * 同じメソッド・引数で呼ばれた場合はリーダーの結果（例外を含む）を返す
+ *
+ * シャード振り分け・トランザクションより外側で動作し、集約された呼び出しは接続を取得しない
+ */
+public class CoalescingInterceptor implements MethodInterceptor {
+
+    /**
+     * 他の呼び出しの結果を共有したリクエストに設定する属性（同時実行数制限の応答時間の計測から除外する）
+     */
+    public static final String COALESCED_ATTRIBUTE = CoalescingInterceptor.class.getName() + ".COALESCED";
+
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<CallKey, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<Method, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public CoalescingInterceptor(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // 呼び出し元のトランザクション内の変更を読む必要があるため共有しない
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        Method method = invocation.getMethod();
+        CallKey key = new CallKey(method, Arrays.asList(invocation.getArguments()));
+        long freshnessNanos = properties.getFreshness().toNanos();
+
+        while (true) {
+            Flight existing = flights.get(key);
+            if (existing != null) {
+                if (existing.isUsable(System.nanoTime(), freshnessNanos)) {
+                    countersOf(method)[1].increment();
+                    markCoalesced();
+                    return existing.await();
+                }
+                flights.remove(key, existing);
+            }
+
+            Flight flight = new Flight();
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+            evictIfFull(freshnessNanos);
+            countersOf(method)[0].increment();
+            return lead(invocation, key, flight, freshnessNanos);
+        }
+    }
+
+    private Object lead(MethodInvocation invocation, CallKey key, Flight flight, long freshnessNanos) throws Throwable {
+        try {
+            Object result = invocation.proceed();
+            flight.complete(result);
+            if (freshnessNanos <= 0) {
+                flights.remove(key, flight);
+            }
+            return result;
+        } catch (Throwable t) {
+            // 失敗は実行中の呼び出しにのみ共有し、以降の呼び出しは再実行する
+            flights.remove(key, flight);
+            flight.fail(t);
+            throw t;
+        }
+    }
+
+    private void markCoalesced() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(COALESCED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private void evictIfFull(long freshnessNanos) {
+        if (flights.size() > properties.getMaxEntries()) {
+            long now = System.nanoTime();
+            flights.values().removeIf(flight -> !flight.isUsable(now, freshnessNanos));
+        }
+    }
+
+    private Counter[] countersOf(Method method) {
+        return counters.computeIfAbsent(method, m -> {
+            String name = m.getDeclaringClass().getSimpleName() + "." + m.getName();
+            return new Counter[] {callCounter(name, "executed"), callCounter(name, "coalesced")};
+        });
+    }
+
+    private Counter callCounter(String method, String outcome) {
+        return Counter.builder("taskflow.coalescing.calls")
+                .description("同時呼び出し集約の対象呼び出し件数（coalesced: 他の呼び出しの結果を共有）")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record CallKey(Method method, List<Object> arguments) {
+    }
+
+    /**
+     * リーダーの実行結果
+     */
+    private static class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        boolean isUsable(long now, long freshnessNanos) {
+            return !result.isDone() || (!result.isCompletedExceptionally() && now - completedAt <= freshnessNanos);
+        }
+
+        void complete(Object value) {
+            completedAt = System.nanoTime();
+            result.complete(value);
+        }
+
+        void fail(Throwable t) {
+            completedAt = System.nanoTime();
+            result.completeExceptionally(t);
+        }
+
+        Object await() throws Throwable {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
+
+
+// ==========================================
+// 🔧 CoalescingConfig.java - 同時読み取りの集約設定
+// パス: src/main/java/com/taskflow/global/config/CoalescingConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.taskflow.global.coalescing.Coalesced;
+import com.taskflow.global.coalescing.CoalescingInterceptor;
+import com.taskflow.global.coalescing.CoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * @Coalesced メソッドをシャード振り分け・トランザクションより先に処理する
+ */
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+@ConditionalOnProperty(prefix = "taskflow.coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(@Lazy CoalescingProperties properties, @Lazy MeterRegistry meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class),
+                new CoalescingInterceptor(properties, meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,440 @@
+// ==========================================
+// ⚙️ ConcurrencyLimitProperties.java - 同時実行数制限設定
+// パス: src/main/java/com/taskflow/global/concurrency/ConcurrencyLimitProperties.java
+// ==========================================
+
+package com.taskflow.global.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * APIの適応的な同時実行数制限（Vegas方式）設定
+ *
+ * <pre>
+ * taskflow:
+ *   concurrency-limit:
+ *     enabled: true
+ *     read:
+ *       initial-limit: 50
+ *       max-limit: 400
+ * </pre>
+ * 認証（ログイン・会員登録）、読み取り（GET）、書き込み（その他）で別々に制限し、
+ * 1つの種類の遅延が他の種類のリクエストを巻き込まないようにする
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 制限対象のパス
+     */
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/tasks/**",
+            "/api/v1/teams/**",
+            "/api/v1/auth/**"
+    ));
+
+    /**
+     * 認証パーティションとするパス（BCryptでCPUを使用するため別枠）
+     */
+    private List<String> authPaths = new ArrayList<>(List.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/signup"
+    ));
+
+    // BCryptの計算はCPUコア数以上に並列化しても速くならない
+    private Partition auth = new Partition(8, 2, 64);
+    private Partition read = new Partition(50, 10, 400);
+    private Partition write = new Partition(20, 5, 200);
+
+    /**
+     * 制限値の変化を平滑化する係数（1で即時反映）
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 無負荷時の応答時間（最小値）を求める期間
+     * 直近の2期間の最小値を使うため、負荷が変わっても最大で2期間後には測り直される
+     */
+    private Duration rttWindow = Duration.ofSeconds(30);
+
+    @Getter
+    @Setter
+    public static class Partition {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Partition() {
+        }
+
+        public Partition(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
+
+
+// ==========================================
+// 📐 VegasLimit.java - Vegas方式の制限値計算
+// パス: src/main/java/com/taskflow/global/concurrency/VegasLimit.java
+// ==========================================
+
+package com.taskflow.global.concurrency;
+
+/**
+ * TCP Vegasと同じ考え方で、応答時間の増加から待ち行列の長さを推定して制限値を調整する
+ *
+ * queue = limit × (1 − 無負荷時の応答時間 / 今回の応答時間)
+ * - queue < alpha: 待ちがほぼ無いため増やす
+ * - queue > beta: DB等で待ちが発生しているため減らす
+ * - 失敗（5xx・接続取得タイムアウト）: 即座に減らす
+ * alpha/betaは制限値の対数に比例させ、小さい制限値でも変化量が過大にならないようにする
+ *
+ * 無負荷時の応答時間は直近の2期間（rttWindow）の最小値とし、
+ * 1回の極端に短いサンプルの影響が期間を過ぎると消えるようにする
+ */
+public class VegasLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final long windowNanos;
+
+    private double limit;
+    private long rttNoLoad;
+    private long windowStart;
+    private long windowMin;
+    private long previousWindowMin;
+
+    public VegasLimit(ConcurrencyLimitProperties.Partition partition, double smoothing, Duration rttWindow) {
+        this.minLimit = partition.getMinLimit();
+        this.maxLimit = partition.getMaxLimit();
+        this.limit = partition.getInitialLimit();
+        this.smoothing = smoothing;
+        this.windowNanos = rttWindow.toNanos();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @param rttNanos 今回の応答時間
+     * @param inFlight 開始時点の同時実行数
+     * @param dropped  過負荷による失敗か
+     */
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        // 失敗は処理の途中で終わることがあり、無負荷時の応答時間には含めない
+        if (!dropped) {
+            updateRttNoLoad(rttNanos, System.nanoTime());
+        }
+        if (rttNoLoad == 0) {
+            return;
+        }
+
+        double logLimit = Math.log10(Math.max(limit, 10));
+        double target;
+        if (dropped) {
+            target = limit - logLimit;
+        } else {
+            double queue = Math.ceil(limit * (1 - (double) rttNoLoad / rttNanos));
+            if (queue > 6 * logLimit) {
+                target = limit - logLimit;
+            } else if (queue < 3 * logLimit && inFlight * 2 >= limit) {
+                // 制限値の半分も使っていない時は増やしても意味がない
+                target = limit + logLimit;
+            } else {
+                return;
+            }
+        }
+
+        double smoothed = limit * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+
+    /**
+     * 負荷が変わると無負荷時の応答時間も変わるため、期間毎に最小値を求め直す
+     */
+    private void updateRttNoLoad(long rttNanos, long now) {
+        if (windowMin == 0 || now - windowStart >= windowNanos) {
+            // 2期間以上サンプルが無かった場合、前の期間の最小値は使わない
+            previousWindowMin = windowMin != 0 && now - windowStart < 2 * windowNanos ? windowMin : 0;
+            windowStart = now;
+            windowMin = rttNanos;
+        } else {
+            windowMin = Math.min(windowMin, rttNanos);
+        }
+        rttNoLoad = previousWindowMin == 0 ? windowMin : Math.min(previousWindowMin, windowMin);
+    }
+}
+
+
+// ==========================================
+// 🚧 ConcurrencyLimiter.java - パーティション毎の同時実行数制限
+// パス: src/main/java/com/taskflow/global/concurrency/ConcurrencyLimiter.java
+// ==========================================
+
+package com.taskflow.global.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 同時実行数が制限値未満の場合のみ許可する（待たずに即時に拒否）
+ */
+public class ConcurrencyLimiter {
+
+    private final VegasLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ConcurrencyLimiter(VegasLimit limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * @return 許可された場合は開始時点の同時実行数、拒否された場合は-1
+     */
+    public int tryAcquire() {
+        int max = limit.getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    public void release(long rttNanos, int inFlightAtStart, boolean dropped) {
+        inFlight.decrementAndGet();
+        limit.onSample(rttNanos, inFlightAtStart, dropped);
+    }
+
+    /**
+     * 応答時間を制限値の計算に使わずに解放する
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
+
+
+// ==========================================
+// 🚦 ConcurrencyLimitFilter.java - 同時実行数制限フィルター
+// パス: src/main/java/com/taskflow/global/concurrency/ConcurrencyLimitFilter.java
+// ==========================================
+
+package com.taskflow.global.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.global.coalescing.CoalescingInterceptor;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * コントローラーの手前で同時実行数を制限し、超えた分は即時に503を返す
+ *
+ * DBが遅くなるとHikariの接続待ちでTomcatのスレッドが埋まり、全てのリクエストの待ち時間が伸び続ける。
+ * 応答時間から制限値を調整し、処理できる分だけを受け付けることで待ち時間の上限を保つ。
+ * 認証前に判定するため、Spring Securityのフィルターより先に実行する
+ *
+ * 応答時間のサンプルはコントローラーで処理した2xx/3xxのみとする。
+ * 認証エラー（401）・検証エラー等の4xx、冪等キーの再送、集約された読み取りは
+ * DBを使わずに短時間で返るため、無負荷時の応答時間を実際より短くしてしまう
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public enum Partition { AUTH, READ, WRITE }
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<Partition, ConcurrencyLimiter> limiters = new EnumMap<>(Partition.class);
+    private final Map<Partition, Counter> rejectedCounters = new EnumMap<>(Partition.class);
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        register(Partition.AUTH, properties.getAuth(), meterRegistry);
+        register(Partition.READ, properties.getRead(), meterRegistry);
+        register(Partition.WRITE, properties.getWrite(), meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return properties.getPaths().stream()
+                .noneMatch(path -> pathMatcher.match(path, request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        Partition partition = partitionOf(request);
+        ConcurrencyLimiter limiter = limiters.get(partition);
+        int inFlight = limiter.tryAcquire();
+        if (inFlight < 0) {
+            rejectedCounters.get(partition).increment();
+            log.debug("同時実行数制限により拒否: partition={}, limit={}", partition, limiter.getLimit());
+            writeRejected(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            long rttNanos = System.nanoTime() - start;
+            int status = response.getStatus();
+            if (!completed || status >= 500) {
+                // 例外・5xx（接続取得タイムアウト・シャード接続失敗等）は過負荷として扱う
+                limiter.release(rttNanos, inFlight, true);
+            } else if (status < 400 && isSampled(request)) {
+                limiter.release(rttNanos, inFlight, false);
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    /**
+     * コントローラーまで到達し、DBの処理を自分で実行したリクエストか
+     */
+    private boolean isSampled(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) != null
+                && request.getAttribute(CoalescingInterceptor.COALESCED_ATTRIBUTE) == null;
+    }
+
+    private Partition partitionOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (properties.getAuthPaths().stream().anyMatch(path -> pathMatcher.match(path, uri))) {
+            return Partition.AUTH;
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? Partition.READ : Partition.WRITE;
+    }
+
+    private void writeRejected(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.CONCURRENCY_LIMIT_EXCEEDED;
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode));
+    }
+
+    private void register(Partition partition, ConcurrencyLimitProperties.Partition settings,
+                          MeterRegistry meterRegistry) {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                new VegasLimit(settings, properties.getSmoothing(), properties.getRttWindow()));
+        limiters.put(partition, limiter);
+
+        String tag = partition.name().toLowerCase();
+        Gauge.builder("taskflow.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                .description("現在の同時実行数の制限値")
+                .tag("partition", tag)
+                .register(meterRegistry);
+        Gauge.builder("taskflow.concurrency.inflight", limiter, ConcurrencyLimiter::getInFlight)
+                .description("処理中のリクエスト数")
+                .tag("partition", tag)
+                .register(meterRegistry);
+        rejectedCounters.put(partition, Counter.builder("taskflow.concurrency.rejected")
+                .description("同時実行数制限により503を返したリクエスト数")
+                .tag("partition", tag)
+                .register(meterRegistry));
+    }
+}
+
+
+// ==========================================
+// 🔧 ConcurrencyLimitConfig.java - 同時実行数制限設定
+// パス: src/main/java/com/taskflow/global/config/ConcurrencyLimitConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.global.concurrency.ConcurrencyLimitFilter;
+import com.taskflow.global.concurrency.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 同時実行数制限フィルターをSpring Securityより先に登録する
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "taskflow.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                         ObjectMapper objectMapper,
+                                                         MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitFilter(properties, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter concurrencyLimitFilter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+}
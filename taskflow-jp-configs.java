@@ -7,17 +7,15 @@ package com.taskflow;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 /**
  * TaskFlow アプリケーション メインクラス
  * 
- * @EnableJpaAuditing: BaseEntityの@CreatedDate, @LastModifiedDateを有効化
+ * JPA Auditing(@CreatedDate, @LastModifiedDate)はJpaConfigで有効化
  * @author あなたの名前
  * @version 1.0.0
  */
 @SpringBootApplication
-@EnableJpaAuditing
 public class TaskflowApplication {
 
     public static void main(String[] args) {
@@ -147,6 +145,68 @@ public class JpaConfig {
 }
 
 
+// ==========================================
+// 🗃️ SchemaConfig.java - スキーマ管理設定
+// パス: src/main/java/com/taskflow/global/config/SchemaConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * スキーマ管理設定クラス
+ *
+ * スキーマはFlywayのマイグレーション（db/migration と DB毎の db/migration/{vendor}）のみで作成・変更する
+ * application.yml に ddl-auto: update 等が残っていても、Hibernateはスキーマを検証するだけにする
+ */
+@Configuration
+public class SchemaConfig {
+
+    private static final String MIGRATION_LOCATION = "classpath:db/migration";
+
+    /**
+     * エンティティとスキーマが一致しない場合は起動に失敗させる
+     */
+    @Bean
+    public HibernatePropertiesCustomizer schemaValidationCustomizer() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_AUTO, "validate");
+    }
+
+    /**
+     * Flyway導入前のアプリが作成したDB（V1の4テーブルのみ）はV1を適用済みとして扱い、V2から適用する
+     * （シャーディング有効時の各シャードのマイグレーションにも適用される）
+     */
+    @Bean
+    public FlywayConfigurationCustomizer baselineCustomizer() {
+        return configuration -> configuration
+                .locations(MIGRATION_LOCATION, MIGRATION_LOCATION + "/" + vendorOf(configuration.getDataSource()))
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+
+    /**
+     * spring.flyway.locations の {vendor} と同じ名前（mysql, h2）
+     */
+    private static String vendorOf(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return DatabaseDriver.fromJdbcUrl(connection.getMetaData().getURL()).getId();
+        } catch (SQLException e) {
+            throw new IllegalStateException("マイグレーション対象のDBを判定できません", e);
+        }
+    }
+}
+
+
 // ==========================================
 // 🌐 WebConfig.java - CORS設定
 // パス: src/main/java/com/taskflow/global/config/WebConfig.java
@@ -154,17 +214,35 @@ public class JpaConfig {
 
 package com.taskflow.global.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Web MVC設定
  * CORS(Cross-Origin Resource Sharing)許可
+ * バイナリ形式（Accept: application/x-jackson-smile, application/cbor）のレスポンス
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    // Spring Bootが構成したビルダー（プロトタイプのため取得毎に新しいインスタンス）
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -174,6 +252,114 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    /**
+     * MVC既定のSmile/CBORコンバーター（Bootの設定・モジュール未適用）を置き換える
+     * JSONより後ろに追加し、Accept未指定やワイルドカードの場合は従来通りJSONを返す
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+
+        // 繰り返し出現する文字列値（状態・優先度・ユーザー名等）を後方参照にする
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        converters.add(new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(smileFactory)));
+        converters.add(new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(new CBORFactory())));
+    }
+
+    /**
+     * JSONと同じモジュール・設定（日時はISO文字列）で、ファクトリのみをバイナリ形式にする
+     */
+    private ObjectMapper binaryObjectMapper(JsonFactory factory) {
+        return objectMapperBuilder.getObject()
+                .factory(factory)
+                .build();
+    }
+}
+
+
+// ==========================================
+// ⏰ SchedulingConfig.java - スケジューリング設定
+// パス: src/main/java/com/taskflow/global/config/SchedulingConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled によるバックグラウンド処理を有効化
+ *
+ * 既定のスケジューラは1スレッドのため、1つのジョブが長引くと他のジョブ（レプリカの死活監視等）が止まる。
+ * 複数スレッドで実行し、アウトボックス配信は専用のスケジューラ（OutboxConfig）で実行する。
+ * TaskScheduler のBeanを定義すると自動構成のスケジューラは作られないため、ここで taskScheduler を定義する。
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${taskflow.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
+
+
+// ==========================================
+// 🚀 StartupConfig.java - 起動高速化設定
+// パス: src/main/java/com/taskflow/global/config/StartupConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * spring.main.lazy-initialization=true（fast-startupプロファイル）用の設定
+ *
+ * 遅延初期化しても問題ないBean（SwaggerConfig等）は初回使用時に生成し、
+ * 起動直後から動作が必要なBeanは除外して従来通り即時生成する
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * フィルター、メトリクス、@Scheduledを持つBeanは遅延させない
+     * （遅延させるとリクエスト処理やバックグラウンドジョブが開始されないため）
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                Filter.class.isAssignableFrom(beanType)
+                        || MeterBinder.class.isAssignableFrom(beanType)
+                        || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
 }
 
 
@@ -192,11 +378,14 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * Swagger (OpenAPI 3.0) 設定
  * APIドキュメントを自動生成し、テスト可能なUIを提供
+ * 起動時間短縮のため、初回アクセスまで生成を遅延
  */
+@Lazy
 @Configuration
 public class SwaggerConfig {
 
@@ -0,0 +1,774 @@
+// ==========================================
+// ⚙️ DatasetProperties.java - 合成データ生成設定
+// パス: src/main/java/com/taskflow/global/dataset/DatasetProperties.java
+// ==========================================
+
+package com.taskflow.global.dataset;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 性能試験用の合成データ生成設定（enabled=true の場合、生成後にアプリケーションを終了）
+ *
+ * <pre>
+ * taskflow:
+ *   dataset:
+ *     enabled: true
+ *     seed: 42
+ *     base-date: 2026-10-01     # 省略時は当日（別の日に同じデータを再現する場合は指定）
+ *     users: 100000
+ *     teams: 20000
+ *     members: 1000000          # チーム人数の合計（目安。max-team-sizeで切り詰めた分は減る）
+ *     tasks: 10000000
+ *     team-size-exponent: 1.0   # チーム人数のZipf分布の指数（0で均等）
+ *     output-dir: ./build/dataset   # 指定時はDBへ書き込まず、LOAD DATA用のファイルを出力
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.dataset")
+public class DatasetProperties {
+
+    private boolean enabled;
+
+    /**
+     * 同じseed・設定・基準日からは常に同じ行を生成する
+     */
+    private long seed = 42;
+
+    /**
+     * タスクの作成日時は基準日の前日までの history-days 日間に分布させる
+     */
+    private LocalDate baseDate;
+    private int historyDays = 365;
+
+    private int users = 100_000;
+    private int teams = 20_000;
+    private long members = 1_000_000;
+    private long tasks = 10_000_000;
+
+    private double teamSizeExponent = 1.0;
+    private int maxTeamSize = 5_000;
+
+    private double unassignedRatio = 0.2;
+    private double dueDateRatio = 0.7;
+    private double descriptionRatio = 0.5;
+
+    private Map<TaskStatus, Double> statusWeights = new EnumMap<>(Map.of(
+            TaskStatus.TODO, 0.3, TaskStatus.IN_PROGRESS, 0.2, TaskStatus.DONE, 0.5));
+
+    private Map<Priority, Double> priorityWeights = new EnumMap<>(Map.of(
+            Priority.HIGH, 0.2, Priority.MEDIUM, 0.5, Priority.LOW, 0.3));
+
+    /**
+     * 全ユーザー共通のパスワード（BCryptは1件数十msのため、生成開始時に1回だけハッシュ化する）
+     */
+    private String password = "password1234";
+
+    /**
+     * 1回のJDBCバッチ（ファイル出力時は1ファイル）の行数と並列数
+     * 並列数は接続プールの maximum-pool-size 以下にすること
+     */
+    private int batchSize = 5_000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    private Path outputDir;
+}
+
+
+// ==========================================
+// 🗂️ DatasetTable.java - 生成対象のテーブル
+// パス: src/main/java/com/taskflow/global/dataset/DatasetTable.java
+// ==========================================
+
+package com.taskflow.global.dataset;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 生成対象のテーブルと列（外部キーの参照先から順に定義）
+ */
+public enum DatasetTable {
+    USERS("users", List.of("id", "email", "password", "name", "role", "created_at", "updated_at")),
+    TEAMS("teams", List.of("id", "name", "description", "created_by", "deleted", "created_at", "updated_at"),
+            Set.of("deleted")),
+    TEAM_MEMBERS("team_members", List.of("id", "team_id", "user_id", "role", "created_at", "updated_at")),
+    TASKS("tasks", List.of("id", "title", "description", "status", "priority", "due_date",
+            "assignee_id", "team_id", "created_by", "version", "created_at", "updated_at"));
+
+    private final String tableName;
+    private final List<String> columns;
+    private final Set<String> bitColumns; // BIT型の列（LOAD DATAは文字列の'0'/'1'を変換できない）
+
+    DatasetTable(String tableName, List<String> columns) {
+        this(tableName, columns, Set.of());
+    }
+
+    DatasetTable(String tableName, List<String> columns, Set<String> bitColumns) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.bitColumns = bitColumns;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String insertSql() {
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    }
+
+    /**
+     * LOAD DATAの列指定（BIT型の列はユーザー変数で受けてSET句で変換する）
+     */
+    public String loadColumnsClause() {
+        List<String> targets = columns.stream()
+                .map(column -> bitColumns.contains(column) ? "@" + column : column)
+                .toList();
+        String clause = "(" + String.join(", ", targets) + ")";
+        if (bitColumns.isEmpty()) {
+            return clause;
+        }
+        return clause + " SET " + String.join(", ", columns.stream()
+                .filter(bitColumns::contains)
+                .map(column -> column + " = (@" + column + " = 1)")
+                .toList());
+    }
+}
+
+
+// ==========================================
+// 🚰 DatasetSink.java - 生成した行の書き込み先
+// パス: src/main/java/com/taskflow/global/dataset/DatasetSink.java
+// ==========================================
+
+package com.taskflow.global.dataset;
+
+import java.util.List;
+
+/**
+ * 生成した行の書き込み先
+ * write は複数スレッドから同時に呼ばれる（1回 = 1チャンク。チャンク番号はテーブル内で一意）
+ */
+public interface DatasetSink {
+
+    void write(DatasetTable table, long chunk, List<Object[]> rows);
+
+    /**
+     * 全テーブルの書き込み完了後に1回呼ばれる
+     */
+    default void finish() {
+    }
+}
+
+
+// ==========================================
+// 🗄️ JdbcDatasetSink.java - JDBCバッチでの書き込み
+// パス: src/main/java/com/taskflow/global/dataset/JdbcDatasetSink.java
+// ==========================================
+
+package com.taskflow.global.dataset;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 1チャンク = 1回のバッチINSERT（自動コミット）
+ * MySQLでは接続URLに rewriteBatchedStatements=true を指定すると複数行INSERTにまとめられる
+ */
+public class JdbcDatasetSink implements DatasetSink {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcDatasetSink(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * IDを1から明示的に採番するため、生成先のテーブルは空である必要がある
+     */
+    public void checkEmpty() {
+        for (DatasetTable table : DatasetTable.values()) {
+            List<Integer> rows = jdbcTemplate.queryForList(
+                    "SELECT 1 FROM " + table.getTableName() + " LIMIT 1", Integer.class);
+            if (!rows.isEmpty()) {
+                throw new IllegalStateException("生成先のテーブルが空ではありません: " + table.getTableName());
+            }
+        }
+    }
+
+    @Override
+    public void write(DatasetTable table, long chunk, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(table.insertSql(), rows);
+    }
+}
+
+
+// ==========================================
+// 📄 TsvDatasetSink.java - LOAD DATA用ファイルの出力
+// パス: src/main/java/com/taskflow/global/dataset/TsvDatasetSink.java
+// ==========================================
+
+package com.taskflow.global.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * チャンク毎にTSVファイル（{テーブル}/{チャンク番号}.tsv）を出力し、
+ * 最後に全ファイルを読み込む load.sql を作成する
+ *
+ * <pre>
+ * cd ./build/dataset &amp;&amp; mysql --local-infile=1 -u taskflow -p taskflow &lt; load.sql
+ * </pre>
+ * 形式はLOAD DATAの既定（タブ区切り、改行区切り、\ でエスケープ、NULLは \N）
+ */
+public class TsvDatasetSink implements DatasetSink {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path outputDir;
+    private final Map<DatasetTable, NavigableSet<Long>> chunks = new ConcurrentHashMap<>();
+
+    public TsvDatasetSink(Path outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    @Override
+    public void write(DatasetTable table, long chunk, List<Object[]> rows) {
+        try {
+            Path dir = Files.createDirectories(outputDir.resolve(table.getTableName()));
+            try (BufferedWriter writer = Files.newBufferedWriter(dir.resolve(fileName(chunk)), StandardCharsets.UTF_8)) {
+                StringBuilder line = new StringBuilder(256);
+                for (Object[] row : rows) {
+                    line.setLength(0);
+                    for (int i = 0; i < row.length; i++) {
+                        if (i > 0) {
+                            line.append('\t');
+                        }
+                        appendValue(line, row[i]);
+                    }
+                    writer.append(line).append('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunks.computeIfAbsent(table, t -> new ConcurrentSkipListSet<>()).add(chunk);
+    }
+
+    @Override
+    public void finish() {
+        StringBuilder sql = new StringBuilder()
+                .append("SET foreign_key_checks = 0;\n")
+                .append("SET unique_checks = 0;\n");
+        for (DatasetTable table : DatasetTable.values()) {
+            for (Long chunk : chunks.getOrDefault(table, new ConcurrentSkipListSet<>())) {
+                sql.append("LOAD DATA LOCAL INFILE '").append(table.getTableName()).append('/').append(fileName(chunk))
+                        .append("' INTO TABLE ").append(table.getTableName())
+                        .append(" CHARACTER SET utf8mb4 ").append(table.loadColumnsClause()).append(";\n");
+            }
+        }
+        sql.append("SET unique_checks = 1;\n")
+                .append("SET foreign_key_checks = 1;\n");
+        try {
+            Files.writeString(outputDir.resolve("load.sql"), sql, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String fileName(long chunk) {
+        return String.format("%06d.tsv", chunk);
+    }
+
+    private static void appendValue(StringBuilder line, Object value) {
+        if (value == null) {
+            line.append("\\N");
+        } else if (value instanceof LocalDateTime dateTime) {
+            line.append(DATE_TIME.format(dateTime));
+        } else if (value instanceof LocalDate date) {
+            line.append(date);
+        } else if (value instanceof Boolean bool) {
+            line.append(bool ? '1' : '0');
+        } else {
+            String text = value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> line.append("\\\\");
+                    case '\t' -> line.append("\\t");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    default -> line.append(c);
+                }
+            }
+        }
+    }
+}
+
+
+// ==========================================
+// 🎲 DatasetGenerator.java - 合成データの生成
+// パス: src/main/java/com/taskflow/global/dataset/DatasetGenerator.java
+// ==========================================
+
+package com.taskflow.global.dataset;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.team.entity.TeamRole;
+import com.taskflow.domain.user.entity.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * users → teams → team_members → tasks の順に合成データを生成する
+ *
+ * 各チャンクの乱数はseed・テーブル・チャンク番号のみから作るため、並列数や実行順序が変わっても同じ行になる。
+ * チーム人数とメンバー構成は最初に1スレッドで決め（100万人で数百ms）、タスクのチームはメンバーを
+ * 一様に選んでそのチームとすることで、人数に比例した偏りを持たせる。
+ * IDは1から明示的に採番する（作成日時はIDの順に増加し、実データと同じ並びになる）
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    private static final String[] FAMILY_NAMES = {
+            "佐藤", "鈴木", "高橋", "田中", "伊藤", "渡辺", "山本", "中村", "小林", "加藤",
+            "吉田", "山田", "佐々木", "山口", "松本", "井上", "木村", "林", "斎藤", "清水"};
+    private static final String[] GIVEN_NAMES = {
+            "翔", "蓮", "陽翔", "湊", "大翔", "結衣", "陽菜", "葵", "さくら", "美咲",
+            "健太", "拓海", "優斗", "花子", "太郎", "愛", "悠真", "彩", "颯", "凛"};
+    private static final String[] TEAM_KINDS = {
+            "開発", "デザイン", "営業", "マーケティング", "インフラ", "品質保証", "サポート", "企画"};
+    private static final String[] TASK_SUBJECTS = {
+            "ログイン画面", "タスクAPI", "通知機能", "検索", "ダッシュボード", "CSVインポート",
+            "権限管理", "監視", "決済", "バッチ処理", "モバイル対応", "レポート"};
+    private static final String[] TASK_ACTIONS = {
+            "設計", "実装", "レビュー", "テスト", "調査", "不具合修正", "リリース準備", "ドキュメント作成"};
+
+    private static final long USER_HISTORY_DAYS = 60;
+    private static final long TEAM_HISTORY_DAYS = 30;
+    private static final long PLAN_STREAM = -1;
+
+    private final DatasetProperties properties;
+    private final PasswordEncoder passwordEncoder;
+
+    public DatasetGenerator(DatasetProperties properties, PasswordEncoder passwordEncoder) {
+        this.properties = properties;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public void generate(DatasetSink sink) {
+        LocalDate baseDate = properties.getBaseDate() != null ? properties.getBaseDate() : LocalDate.now();
+        LocalDateTime start = baseDate.minusDays(properties.getHistoryDays()).atStartOfDay();
+        log.info("合成データ生成開始: seed={}, baseDate={}, users={}, teams={}, members={}, tasks={}",
+                properties.getSeed(), baseDate, properties.getUsers(), properties.getTeams(),
+                properties.getMembers(), properties.getTasks());
+
+        String passwordHash = passwordEncoder.encode(properties.getPassword());
+        Plan plan = plan();
+        log.info("チーム構成決定: members={}, maxTeamSize={}", plan.memberCount(), plan.maxTeamSize());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()));
+        try {
+            generateTable(executor, sink, DatasetTable.USERS, properties.getUsers(),
+                    (id, random) -> userRow(id, passwordHash, start, random));
+            generateTable(executor, sink, DatasetTable.TEAMS, properties.getTeams(),
+                    (id, random) -> teamRow(id, plan, start, random));
+            generateTable(executor, sink, DatasetTable.TEAM_MEMBERS, plan.memberCount(),
+                    (id, random) -> memberRow(id, plan, start));
+            generateTable(executor, sink, DatasetTable.TASKS, properties.getTasks(),
+                    (id, random) -> taskRow(id, plan, start, baseDate, random));
+        } finally {
+            executor.shutdownNow();
+        }
+        sink.finish();
+
+        log.info("合成データ生成完了");
+    }
+
+    // ---------- チーム構成 ----------
+
+    /**
+     * @param offsets         チームi（0始まり）のメンバーは memberUserIds[offsets[i] .. offsets[i + 1])。先頭がリーダー
+     * @param memberUserIds   メンバーのユーザーID
+     */
+    private record Plan(long[] offsets, int[] memberUserIds, int maxTeamSize) {
+
+        long memberCount() {
+            return memberUserIds.length;
+        }
+
+        int teamOf(long memberIndex) {
+            int found = Arrays.binarySearch(offsets, memberIndex);
+            // 同じ値が並ぶことはない（全チーム1人以上）ため、一致した位置がそのチームの先頭
+            return found >= 0 ? found : -found - 2;
+        }
+
+        int sizeOf(int team) {
+            return (int) (offsets[team + 1] - offsets[team]);
+        }
+    }
+
+    private Plan plan() {
+        int teams = properties.getTeams();
+        int users = properties.getUsers();
+        if (teams < 1 || users < 1) {
+            throw new IllegalStateException("ユーザー数・チーム数は1以上を指定してください");
+        }
+        SplittableRandom random = new SplittableRandom(streamSeed(PLAN_STREAM, 0));
+
+        // 人数の順位に対するZipf分布（順位とチームIDは無関係になるよう並べ替える）
+        double[] weights = new double[teams];
+        double total = 0;
+        for (int rank = 0; rank < teams; rank++) {
+            weights[rank] = 1 / Math.pow(rank + 1, properties.getTeamSizeExponent());
+            total += weights[rank];
+        }
+        int cap = Math.max(1, Math.min(properties.getMaxTeamSize(), users));
+        int[] sizes = new int[teams];
+        for (int rank = 0; rank < teams; rank++) {
+            long size = Math.round(properties.getMembers() * weights[rank] / total);
+            sizes[rank] = (int) Math.max(1, Math.min(cap, size));
+        }
+        for (int i = teams - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = sizes[i];
+            sizes[i] = sizes[j];
+            sizes[j] = tmp;
+        }
+
+        long[] offsets = new long[teams + 1];
+        for (int team = 0; team < teams; team++) {
+            offsets[team + 1] = offsets[team] + sizes[team];
+        }
+        int[] memberUserIds = new int[Math.toIntExact(offsets[teams])];
+        Set<Integer> picked = new HashSet<>();
+        int maxTeamSize = 0;
+        for (int team = 0; team < teams; team++) {
+            picked.clear();
+            int index = (int) offsets[team];
+            while (picked.size() < sizes[team]) {
+                int userId = random.nextInt(users) + 1;
+                if (picked.add(userId)) {
+                    memberUserIds[index++] = userId;
+                }
+            }
+            maxTeamSize = Math.max(maxTeamSize, sizes[team]);
+        }
+        return new Plan(offsets, memberUserIds, maxTeamSize);
+    }
+
+    // ---------- 行の生成 ----------
+
+    private Object[] userRow(long id, String passwordHash, LocalDateTime start, SplittableRandom random) {
+        LocalDateTime createdAt = spread(start.minusDays(USER_HISTORY_DAYS), USER_HISTORY_DAYS - TEAM_HISTORY_DAYS,
+                id, properties.getUsers());
+        String name = pick(FAMILY_NAMES, random) + " " + pick(GIVEN_NAMES, random);
+        return new Object[] {id, "user" + id + "@example.com", passwordHash, name, UserRole.USER.name(),
+                createdAt, createdAt};
+    }
+
+    private Object[] teamRow(long id, Plan plan, LocalDateTime start, SplittableRandom random) {
+        int team = (int) (id - 1);
+        LocalDateTime createdAt = teamCreatedAt(team, start);
+        String kind = pick(TEAM_KINDS, random);
+        String description = random.nextDouble() < properties.getDescriptionRatio()
+                ? plan.sizeOf(team) + "人の" + kind + "チームです"
+                : null;
+        int leader = plan.memberUserIds()[(int) plan.offsets()[team]];
+        return new Object[] {id, kind + "チーム" + id, description, leader, false, createdAt, createdAt};
+    }
+
+    private Object[] memberRow(long id, Plan plan, LocalDateTime start) {
+        long index = id - 1;
+        int team = plan.teamOf(index);
+        TeamRole role = index == plan.offsets()[team] ? TeamRole.LEADER : TeamRole.MEMBER;
+        LocalDateTime createdAt = teamCreatedAt(team, start);
+        return new Object[] {id, team + 1, plan.memberUserIds()[(int) index], role.name(), createdAt, createdAt};
+    }
+
+    private Object[] taskRow(long id, Plan plan, LocalDateTime start, LocalDate baseDate, SplittableRandom random) {
+        // メンバーを一様に選び、そのチーム・作成者とする（人数の多いチームほどタスクが多い）
+        int memberIndex = (int) random.nextLong(plan.memberCount());
+        int team = plan.teamOf(memberIndex);
+        int createdBy = plan.memberUserIds()[memberIndex];
+        Integer assigneeId = random.nextDouble() < properties.getUnassignedRatio()
+                ? null
+                : plan.memberUserIds()[(int) plan.offsets()[team] + random.nextInt(plan.sizeOf(team))];
+
+        double slotSeconds = properties.getHistoryDays() * 86_400.0 / properties.getTasks();
+        LocalDateTime createdAt = start.plusSeconds((long) ((id - 1 + random.nextDouble()) * slotSeconds));
+        TaskStatus status = pickWeighted(properties.getStatusWeights(), TaskStatus.values(), random);
+        Priority priority = pickWeighted(properties.getPriorityWeights(), Priority.values(), random);
+        LocalDate dueDate = random.nextDouble() < properties.getDueDateRatio()
+                ? createdAt.toLocalDate().plusDays(1 + random.nextInt(30))
+                : null;
+
+        // 着手・完了したタスクは作成から最大14日後に更新されたものとする（基準日を超えない）
+        LocalDateTime updatedAt = createdAt;
+        if (status != TaskStatus.TODO) {
+            updatedAt = createdAt.plusMinutes(random.nextLong(14 * 24 * 60));
+            if (updatedAt.isAfter(baseDate.atStartOfDay())) {
+                updatedAt = baseDate.atStartOfDay();
+            }
+        }
+
+        String subject = pick(TASK_SUBJECTS, random);
+        String title = subject + "の" + pick(TASK_ACTIONS, random) + " #" + id;
+        String description = random.nextDouble() < properties.getDescriptionRatio()
+                ? subject + "について対応する。完了条件はチームのレビューで確認すること。"
+                : null;
+
+        return new Object[] {id, title, description, status.name(), priority.name(), dueDate,
+                assigneeId, team + 1, createdBy, 0L, createdAt, updatedAt};
+    }
+
+    private LocalDateTime teamCreatedAt(int team, LocalDateTime start) {
+        return spread(start.minusDays(TEAM_HISTORY_DAYS), TEAM_HISTORY_DAYS, team + 1, properties.getTeams());
+    }
+
+    // IDの順に from から days 日間へ等間隔に並べる
+    private static LocalDateTime spread(LocalDateTime from, long days, long id, long total) {
+        return from.plusSeconds((long) ((id - 1) * (days * 86_400.0 / total)));
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static <E extends Enum<E>> E pickWeighted(Map<E, Double> weights, E[] values, SplittableRandom random) {
+        double total = 0;
+        for (E value : values) {
+            total += weights.getOrDefault(value, 0.0);
+        }
+        double point = random.nextDouble() * total;
+        for (E value : values) {
+            point -= weights.getOrDefault(value, 0.0);
+            if (point < 0) {
+                return value;
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    // ---------- 並列実行 ----------
+
+    @FunctionalInterface
+    private interface RowGenerator {
+        Object[] row(long id, SplittableRandom random);
+    }
+
+    /**
+     * ID 1〜total をbatchSize毎のチャンクに分け、並列に生成・書き込みする
+     * テーブル単位で完了を待つため、外部キーの参照先は常に書き込み済み
+     */
+    private void generateTable(ExecutorService executor, DatasetSink sink, DatasetTable table,
+                               long total, RowGenerator generator) {
+        long startedAt = System.nanoTime();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long chunks = (total + batchSize - 1) / batchSize;
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (long chunk = 0; chunk < chunks; chunk++) {
+            long chunkNo = chunk;
+            long from = chunk * batchSize + 1;
+            long to = Math.min(total, from + batchSize - 1);
+            futures.add(executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(streamSeed(table.ordinal(), chunkNo));
+                List<Object[]> rows = new ArrayList<>((int) (to - from + 1));
+                for (long id = from; id <= to; id++) {
+                    rows.add(generator.row(id, random));
+                }
+                sink.write(table, chunkNo, rows);
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("合成データ生成が中断されました", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("合成データ生成失敗: table=" + table.getTableName(), e.getCause());
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("合成データ書き込み完了: table={}, rows={}, elapsed={}ms, rowsPerSecond={}",
+                table.getTableName(), total, elapsedMillis, total * 1000 / elapsedMillis);
+    }
+
+    // seed・テーブル・チャンク番号から独立した乱数列の種を作る（SplitMix64の攪拌）
+    private long streamSeed(long stream, long chunk) {
+        long z = properties.getSeed() ^ (stream * 0x9E3779B97F4A7C15L) ^ (chunk * 0xC2B2AE3D27D4EB4FL);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
+
+
+// ==========================================
+// 🏃 DatasetGeneratorRunner.java - 合成データ生成の起動
+// パス: src/main/java/com/taskflow/global/dataset/DatasetGeneratorRunner.java
+// ==========================================
+
+package com.taskflow.global.dataset;
+
+import com.taskflow.domain.task.service.TaskAnalyticsBackfillService;
+import com.taskflow.domain.task.service.TaskWorkloadService;
+import com.taskflow.global.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * taskflow.dataset.enabled=true の場合に合成データを生成して終了する
+ *
+ * <pre>
+ * java -jar taskflow.jar --spring.main.web-application-type=none \
+ *      --taskflow.dataset.enabled=true --taskflow.dataset.seed=42
+ * </pre>
+ * DBへ直接書き込んだ場合は、担当者別タスク数（user_workloads）と日次集計（team_daily_stats）も
+ * 生成したタスクから作り直す。ファイル出力時は読み込み後に再集計を実行すること
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetProperties properties;
+    private final DatasetGenerator generator;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final TaskWorkloadService taskWorkloadService;
+    private final TaskAnalyticsBackfillService taskAnalyticsBackfillService;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            if (properties.getOutputDir() != null) {
+                generator.generate(new TsvDatasetSink(properties.getOutputDir()));
+                log.info("LOAD DATA用ファイル出力完了: dir={}", properties.getOutputDir().toAbsolutePath());
+            } else {
+                // チームの配置先を決めずに書き込むため、単一データベースのみ対応（生成後に移行ツールで分散する）
+                if (shardRouter.isEnabled()) {
+                    throw new IllegalStateException("シャーディング有効時はDBへ直接生成できません（output-dirを指定してください）");
+                }
+                JdbcDatasetSink sink = new JdbcDatasetSink(jdbcTemplate);
+                sink.checkEmpty();
+                generator.generate(sink);
+
+                LocalDate baseDate = properties.getBaseDate() != null ? properties.getBaseDate() : LocalDate.now();
+                taskWorkloadService.rebuild();
+                taskAnalyticsBackfillService.backfill(baseDate.plusDays(1));
+            }
+        } catch (RuntimeException e) {
+            log.error("合成データ生成失敗", e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
+
+
+// ==========================================
+// 🔧 DatasetConfig.java - 合成データ生成設定
+// パス: src/main/java/com/taskflow/global/config/DatasetConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.taskflow.domain.task.service.TaskAnalyticsBackfillService;
+import com.taskflow.domain.task.service.TaskWorkloadService;
+import com.taskflow.global.dataset.DatasetGenerator;
+import com.taskflow.global.dataset.DatasetGeneratorRunner;
+import com.taskflow.global.dataset.DatasetProperties;
+import com.taskflow.global.shard.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 性能試験用の合成データ生成（taskflow.dataset.enabled=true の時のみ登録）
+ */
+@Configuration
+@EnableConfigurationProperties(DatasetProperties.class)
+@ConditionalOnProperty(prefix = "taskflow.dataset", name = "enabled", havingValue = "true")
+public class DatasetConfig {
+
+    @Bean
+    public DatasetGenerator datasetGenerator(DatasetProperties properties, PasswordEncoder passwordEncoder) {
+        return new DatasetGenerator(properties, passwordEncoder);
+    }
+
+    @Bean
+    public DatasetGeneratorRunner datasetGeneratorRunner(DatasetProperties properties,
+                                                         DatasetGenerator datasetGenerator,
+                                                         JdbcTemplate jdbcTemplate,
+                                                         ShardRouter shardRouter,
+                                                         TaskWorkloadService taskWorkloadService,
+                                                         TaskAnalyticsBackfillService taskAnalyticsBackfillService,
+                                                         ConfigurableApplicationContext context) {
+        return new DatasetGeneratorRunner(properties, datasetGenerator, jdbcTemplate, shardRouter,
+                taskWorkloadService, taskAnalyticsBackfillService, context);
+    }
+}
@@ -0,0 +1,390 @@
+// ==========================================
+// ⚙️ ReplicationDataSourceProperties.java - レプリケーション設定
+// パス: src/main/java/com/taskflow/global/datasource/ReplicationDataSourceProperties.java
+// ==========================================
+
+package com.taskflow.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * プライマリ/レプリカ構成のデータソース設定
+ *
+ * ローカルでは2つのH2インスタンスで動作確認できます（同じファイルDBを
+ * 別プールで開き、レプリカ側を読み取り専用にすることで擬似的に再現）:
+ * <pre>
+ * taskflow:
+ *   datasource:
+ *     replication:
+ *       enabled: true
+ *       primary:
+ *         url: jdbc:h2:file:./build/h2/taskflow;AUTO_SERVER=TRUE
+ *         username: sa
+ *       replicas:
+ *         - url: jdbc:h2:file:./build/h2/taskflow;AUTO_SERVER=TRUE;ACCESS_MODE_DATA=r
+ *           username: sa
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.datasource.replication")
+public class ReplicationDataSourceProperties {
+
+    private boolean enabled;
+
+    private Node primary = new Node();
+
+    private List<Node> replicas = new ArrayList<>();
+
+    /**
+     * レプリカのヘルスチェック間隔（ミリ秒）
+     */
+    private long healthCheckIntervalMs = 5000;
+
+    /**
+     * Connection#isValid のタイムアウト（秒）
+     */
+    private int healthCheckTimeoutSeconds = 1;
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
+
+
+// ==========================================
+// 🧭 ReadYourWritesContext.java - 書き込み後の読み取り固定
+// パス: src/main/java/com/taskflow/global/datasource/ReadYourWritesContext.java
+// ==========================================
+
+package com.taskflow.global.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * リクエスト内で書き込みが発生したかを保持
+ * 書き込み後の読み取りはレプリカ遅延を避けるためプライマリへ固定する
+ *
+ * HTTPリクエストではリクエスト終了時（ReadYourWritesFilter）に解除する。
+ * リクエスト外のスレッド（定期ジョブ等）では書き込んだトランザクションの終了時に解除し、
+ * 以降の読み取り専用トランザクションをレプリカへ戻す
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> IN_REQUEST = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * リクエストの開始時に呼び出し、書き込みフラグをリクエスト終了まで保持する
+     */
+    public static void beginRequest() {
+        IN_REQUEST.set(Boolean.TRUE);
+    }
+
+    public static void markWritten() {
+        if (hasWritten()) {
+            return;
+        }
+        WRITTEN.set(Boolean.TRUE);
+        // 最初に書き込んだトランザクション（内側のREQUIRES_NEWより外側）の終了時に解除する
+        if (!Boolean.TRUE.equals(IN_REQUEST.get()) && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    WRITTEN.remove();
+                }
+            });
+        }
+    }
+
+    public static boolean hasWritten() {
+        return Boolean.TRUE.equals(WRITTEN.get());
+    }
+
+    public static void clear() {
+        WRITTEN.remove();
+        IN_REQUEST.remove();
+    }
+}
+
+
+// ==========================================
+// 🩺 ReplicaHealthRegistry.java - レプリカ死活監視
+// パス: src/main/java/com/taskflow/global/datasource/ReplicaHealthRegistry.java
+// ==========================================
+
+package com.taskflow.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * レプリカのヘルス状態を管理
+ * 応答しないレプリカはルーティング対象から除外し、復旧したら戻す
+ */
+@Slf4j
+public class ReplicaHealthRegistry {
+
+    private final Map<String, DataSource> replicas;
+    private final int timeoutSeconds;
+    private volatile List<String> healthyKeys;
+
+    public ReplicaHealthRegistry(Map<String, DataSource> replicas, int timeoutSeconds) {
+        this.replicas = replicas;
+        this.timeoutSeconds = timeoutSeconds;
+        this.healthyKeys = List.copyOf(replicas.keySet());
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 現在ルーティング可能なレプリカのキー一覧
+     */
+    public List<String> healthyReplicas() {
+        return healthyKeys;
+    }
+
+    /**
+     * 定期的に全レプリカへ接続確認を行う
+     */
+    @Scheduled(fixedDelayString = "${taskflow.datasource.replication.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        List<String> healthy = new ArrayList<>();
+
+        for (Map.Entry<String, DataSource> entry : replicas.entrySet()) {
+            if (isValid(entry.getValue())) {
+                healthy.add(entry.getKey());
+            }
+        }
+
+        if (!healthy.equals(healthyKeys)) {
+            log.warn("レプリカ状態変更: healthy={}, all={}", healthy, replicas.keySet());
+        }
+        healthyKeys = List.copyOf(healthy);
+    }
+
+    private boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(timeoutSeconds);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
+
+
+// ==========================================
+// 🔀 ReplicationRoutingDataSource.java - 読み書き振り分け
+// パス: src/main/java/com/taskflow/global/datasource/ReplicationRoutingDataSource.java
+// ==========================================
+
+package com.taskflow.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnlyトランザクションをレプリカへ、それ以外をプライマリへ振り分ける
+ *
+ * 接続取得時点でトランザクション属性が確定している必要があるため、
+ * 必ず LazyConnectionDataSourceProxy で包んで使用すること
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaHealthRegistry healthRegistry;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(ReplicaHealthRegistry healthRegistry) {
+        this.healthRegistry = healthRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.markWritten();
+            }
+            return PRIMARY;
+        }
+
+        // 同一リクエストで書き込み済みならレプリカ遅延を避ける
+        if (ReadYourWritesContext.hasWritten()) {
+            return PRIMARY;
+        }
+
+        List<String> healthy = healthRegistry.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(sequence.getAndIncrement(), healthy.size()));
+    }
+}
+
+
+// ==========================================
+// 🧹 ReadYourWritesFilter.java - リクエスト単位の固定解除
+// パス: src/main/java/com/taskflow/global/datasource/ReadYourWritesFilter.java
+// ==========================================
+
+package com.taskflow.global.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * リクエスト終了時に書き込みフラグをクリアする
+ * スレッドプールで次のリクエストへ引き継がれないようにする
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        ReadYourWritesContext.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+}
+
+
+// ==========================================
+// 🔧 ReplicationDataSourceConfig.java - レプリケーション設定
+// パス: src/main/java/com/taskflow/global/config/ReplicationDataSourceConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.taskflow.global.datasource.ReadYourWritesFilter;
+import com.taskflow.global.datasource.ReplicaHealthRegistry;
+import com.taskflow.global.datasource.ReplicationDataSourceProperties;
+import com.taskflow.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * プライマリ/レプリカ振り分けデータソース設定
+ * taskflow.datasource.replication.enabled=true の時のみ有効
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicationDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "taskflow.datasource.replication", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public ReplicaHealthRegistry replicaHealthRegistry(ReplicationDataSourceProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            String key = "replica-" + i;
+            replicas.put(key, createPool(key, properties.getReplicas().get(i), true));
+        }
+        return new ReplicaHealthRegistry(replicas, properties.getHealthCheckTimeoutSeconds());
+    }
+
+    /**
+     * JPAが使用するデータソース
+     * LazyConnectionDataSourceProxyで包み、readOnly属性確定後に接続先を決定する
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationDataSourceProperties properties,
+                                 ReplicaHealthRegistry replicaHealthRegistry) {
+        DataSource primary = createPool(ReplicationRoutingDataSource.PRIMARY, properties.getPrimary(), false);
+
+        Map<Object, Object> targets = new HashMap<>(replicaHealthRegistry.getReplicas());
+        targets.put(ReplicationRoutingDataSource.PRIMARY, primary);
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(replicaHealthRegistry);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 書き込みフラグのクリアは全フィルターより先に登録する
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource createPool(String poolName, ReplicationDataSourceProperties.Node node, boolean readOnly) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(poolName);
+        pool.setJdbcUrl(node.getUrl());
+        pool.setUsername(node.getUsername());
+        pool.setPassword(node.getPassword());
+        if (node.getDriverClassName() != null) {
+            pool.setDriverClassName(node.getDriverClassName());
+        }
+        pool.setMaximumPoolSize(node.getMaximumPoolSize());
+        pool.setReadOnly(readOnly);
+        pools.add(pool);
+        return pool;
+    }
+}
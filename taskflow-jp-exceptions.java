@@ -20,6 +20,13 @@ public enum ErrorCode {
     // 400 Bad Request
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "不正な入力値です"),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "不正なタイプです"),
+    INVALID_FIELD_SELECTION(HttpStatus.BAD_REQUEST, "指定できないフィールドが含まれています"),
+    INVALID_REFERENCE(HttpStatus.BAD_REQUEST, "参照先のデータが存在しません"),
+    INVALID_CSV_FORMAT(HttpStatus.BAD_REQUEST, "CSVの形式が正しくありません（titleを含むヘッダー行が必要です）"),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Keyは1〜255文字で指定してください"),
+    INVALID_TASK_DEPENDENCY(HttpStatus.BAD_REQUEST, "依存関係は同じチームの異なるタスク間でのみ設定できます"),
+    INVALID_TASK_PARENT(HttpStatus.BAD_REQUEST, "親タスクには同じチームの別のタスクを指定してください"),
+    INVALID_MERGE_PATCH(HttpStatus.BAD_REQUEST, "変更内容が正しくありません（title・description・priority・dueDate・assigneeIdのみ変更できます）"),
     
     // 401 Unauthorized
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "認証が必要です"),
@@ -35,14 +42,29 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "ユーザーが見つかりません"),
     TEAM_NOT_FOUND(HttpStatus.NOT_FOUND, "チームが見つかりません"),
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "タスクが見つかりません"),
+    TEAM_DELETION_NOT_FOUND(HttpStatus.NOT_FOUND, "チーム削除の記録が見つかりません"),
+    TASK_DEPENDENCY_NOT_FOUND(HttpStatus.NOT_FOUND, "依存関係が見つかりません"),
     
     // 409 Conflict
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "既に使用されているメールアドレスです"),
     ALREADY_TEAM_MEMBER(HttpStatus.CONFLICT, "既にチームメンバーです"),
     NOT_TEAM_MEMBER(HttpStatus.CONFLICT, "チームメンバーではありません"),
+    TASK_STATUS_CONFLICT(HttpStatus.CONFLICT, "他のユーザーがタスクを更新しました。最新の状態を取得してください"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "他のユーザーが同時に更新しました。再度お試しください"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "同じIdempotency-Keyのリクエストを処理中です。しばらくしてから再送してください"),
+    TASK_DEPENDENCY_CYCLE(HttpStatus.CONFLICT, "依存関係が循環するため追加できません"),
+    TASK_HIERARCHY_CYCLE(HttpStatus.CONFLICT, "自分のサブタスクを親タスクにすることはできません"),
+    
+    // 422 Unprocessable Entity
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "同じIdempotency-Keyが異なるリクエストで使用されています"),
     
     // 500 Internal Server Error
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "サーバー内部エラーが発生しました");
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "サーバー内部エラーが発生しました"),
+    
+    // 503 Service Unavailable
+    TEAM_SHARD_MIGRATING(HttpStatus.SERVICE_UNAVAILABLE, "チームのデータを移行中です。しばらくしてから再度お試しください"),
+    SHARD_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "一部のデータベースに接続できません。しばらくしてから再度お試しください"),
+    CONCURRENCY_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "サーバーが混み合っています。しばらくしてから再度お試しください");
 
     private final HttpStatus status;
     private final String message;
@@ -182,6 +204,7 @@ public class ErrorResponse {
 package com.taskflow.global.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -274,6 +297,20 @@ public class GlobalExceptionHandler {
                 .body(response);
     }
 
+    /**
+     * 楽観的ロック競合（@Versionの不一致）
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("楽観的ロック競合: {}", e.getMessage());
+        
+        ErrorResponse response = ErrorResponse.of(ErrorCode.CONCURRENT_MODIFICATION);
+        
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(response);
+    }
+
     /**
      * Spring Security認証例外処理
      */
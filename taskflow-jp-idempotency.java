@@ -0,0 +1,759 @@
+// ==========================================
+// ⚙️ IdempotencyProperties.java - 冪等キー設定
+// パス: src/main/java/com/taskflow/global/idempotency/IdempotencyProperties.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key ヘッダーの処理設定
+ *
+ * <pre>
+ * taskflow:
+ *   idempotency:
+ *     ttl: 24h
+ *     max-entries: 10000
+ *     shared-store: true   # 複数ノード構成ではDBテーブルを共有する
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 保存したレスポンスの有効期間
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * メモリ上に保持する最大件数（超えた分は最も古く参照されたものから破棄）
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * 同じキーの先行リクエスト完了を待つ最大時間
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 他ノードの処理結果を確認する間隔
+     */
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    /**
+     * 処理中のまま残ったキー（ノード停止等）を引き継げるまでの時間
+     */
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    /**
+     * DBテーブル（idempotency_keys）をノード間で共有するか
+     */
+    private boolean sharedStore;
+
+    /**
+     * 対象とするPOSTエンドポイント
+     */
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/tasks",
+            "/api/v1/teams",
+            "/api/v1/teams/*/members/*"
+    ));
+}
+
+
+// ==========================================
+// 📦 IdempotentResponse.java - 保存するレスポンス
+// パス: src/main/java/com/taskflow/global/idempotency/IdempotentResponse.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 再送時に返却するレスポンス
+ * fingerprintはリクエストボディのハッシュで、同じキーの使い回しを検出するために使用
+ */
+@Getter
+@RequiredArgsConstructor
+public class IdempotentResponse {
+
+    private final String fingerprint;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+    private final Instant expiresAt;
+
+    public boolean isExpired(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
+
+
+// ==========================================
+// 🗄️ IdempotencyStore.java - 保存先インターフェース
+// パス: src/main/java/com/taskflow/global/idempotency/IdempotencyStore.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 冪等キーとレスポンスの保存先
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 処理済みのレスポンスを取得（期限切れ・処理中は空）
+     */
+    Optional<IdempotentResponse> find(String key);
+
+    /**
+     * キーの処理権を取得
+     * 他で処理中または処理済みの場合はfalse
+     */
+    boolean tryClaim(String key, String fingerprint, Instant expiresAt);
+
+    /**
+     * 処理結果を保存して処理権を解放
+     */
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * 結果を保存せずに処理権を解放（再実行を許可）
+     */
+    void release(String key);
+}
+
+
+// ==========================================
+// 🧠 InMemoryIdempotencyStore.java - メモリ上のLRU保存先
+// パス: src/main/java/com/taskflow/global/idempotency/InMemoryIdempotencyStore.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 件数上限付きLRU + TTLのメモリ保存先
+ *
+ * 同一ノード内の同時リクエストはIdempotencyFilterが直列化するため、
+ * 処理権の管理は行わない
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, IdempotentResponse> entries;
+
+    public InMemoryIdempotencyStore(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<IdempotentResponse> find(String key) {
+        IdempotentResponse response = entries.get(key);
+        if (response == null) {
+            return Optional.empty();
+        }
+        if (response.isExpired(Instant.now())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(response);
+    }
+
+    @Override
+    public boolean tryClaim(String key, String fingerprint, Instant expiresAt) {
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotentResponse response) {
+        entries.put(key, response);
+    }
+
+    @Override
+    public void release(String key) {
+    }
+}
+
+
+// ==========================================
+// 📦 IdempotencyRecord.java - 冪等キーエンティティ
+// パス: src/main/java/com/taskflow/global/idempotency/IdempotencyRecord.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 複数ノードで共有する冪等キー
+ * 行の存在が処理権を表し、completed=trueでレスポンスを保持する
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 320)
+    private String key;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    private Integer responseStatus;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @Column(name = "claimed_at", nullable = false)
+    private Instant claimedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(fingerprint, responseStatus, contentType, body, expiresAt);
+    }
+}
+
+
+// ==========================================
+// 📦 IdempotencyRecordRepository.java - 冪等キーリポジトリ
+// パス: src/main/java/com/taskflow/global/idempotency/IdempotencyRecordRepository.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 処理権の取得（既に行があれば何もしない）
+     * 主キー制約で複数ノードの同時実行を防ぐ
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_keys " +
+                   "(idempotency_key, fingerprint, completed, claimed_at, expires_at) " +
+                   "VALUES (:key, :fingerprint, false, :claimedAt, :expiresAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key,
+                       @Param("fingerprint") String fingerprint,
+                       @Param("claimedAt") Instant claimedAt,
+                       @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * 期限切れ、または処理中のまま放置されたキーを削除
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key " +
+           "AND (r.expiresAt < :now OR (r.completed = false AND r.claimedAt < :staleBefore))")
+    int deleteIfReclaimable(@Param("key") String key,
+                            @Param("now") Instant now,
+                            @Param("staleBefore") Instant staleBefore);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.completed = true, r.responseStatus = :status, " +
+           "r.contentType = :contentType, r.body = :body WHERE r.key = :key")
+    int complete(@Param("key") String key,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.completed = false")
+    int deleteClaim(@Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
+
+
+// ==========================================
+// 🗄️ JpaIdempotencyStore.java - DB共有の保存先
+// パス: src/main/java/com/taskflow/global/idempotency/JpaIdempotencyStore.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * idempotency_keys テーブルを使用した複数ノード共有の保存先
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotentResponse> find(String key) {
+        Instant now = Instant.now();
+        return repository.findById(key)
+                .filter(IdempotencyRecord::isCompleted)
+                .filter(record -> record.getExpiresAt().isAfter(now))
+                .map(IdempotencyRecord::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public boolean tryClaim(String key, String fingerprint, Instant expiresAt) {
+        Instant now = Instant.now();
+        repository.deleteIfReclaimable(key, now, now.minus(properties.getClaimTimeout()));
+        return repository.insertIfAbsent(key, fingerprint, now, expiresAt) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void complete(String key, IdempotentResponse response) {
+        repository.complete(key, response.getStatus(), response.getContentType(), response.getBody());
+    }
+
+    @Override
+    @Transactional
+    public void release(String key) {
+        repository.deleteClaim(key);
+    }
+
+    /**
+     * 期限切れのキーを定期的に削除
+     */
+    @Scheduled(fixedDelayString = "${taskflow.idempotency.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("期限切れ冪等キー削除: count={}", deleted);
+        }
+    }
+}
+
+
+// ==========================================
+// 🔁 IdempotencyFilter.java - Idempotency-Key処理フィルター
+// パス: src/main/java/com/taskflow/global/idempotency/IdempotencyFilter.java
+// ==========================================
+
+package com.taskflow.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 付きPOSTの重複実行を防ぐフィルター
+ *
+ * - 処理済みのキーは保存したレスポンスを再送（Idempotent-Replayed: true）
+ * - 同じキーの同時リクエストは先行リクエストの完了を待って同じ結果を返す
+ * - 5xxや例外で終了した場合は保存せず、再送時に再実行する
+ *
+ * キーはユーザーとURI単位で区別するため、JWT認証フィルターの後に実行すること
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final InMemoryIdempotencyStore localStore;
+    private final IdempotencyStore sharedStore;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param sharedStore 複数ノード共有の保存先（単一ノードの場合はnull）
+     */
+    public IdempotencyFilter(IdempotencyProperties properties,
+                             InMemoryIdempotencyStore localStore,
+                             IdempotencyStore sharedStore,
+                             ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.localStore = localStore;
+        this.sharedStore = sharedStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || properties.getPaths().stream()
+                        .noneMatch(path -> pathMatcher.match(path, request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER);
+        if (!StringUtils.hasText(idempotencyKey) || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        // 未認証リクエストは後続で401となるため対象外
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Long userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String key = userId + ":" + request.getRequestURI() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(cachedRequest.body);
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            Optional<IdempotentResponse> stored = lookup(key);
+            if (stored.isPresent()) {
+                replay(stored.get(), fingerprint, response);
+                return;
+            }
+
+            CompletableFuture<IdempotentResponse> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                try {
+                    execute(key, fingerprint, deadline, cachedRequest, response, filterChain, mine);
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+                return;
+            }
+
+            // 同じノードで処理中のリクエストを待つ
+            log.debug("冪等キー処理待ち: key={}", idempotencyKey);
+            IdempotentResponse result;
+            try {
+                result = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                return;
+            }
+
+            if (result != null) {
+                replay(result, fingerprint, response);
+                return;
+            }
+            // 先行リクエストが結果を保存せずに終了した場合は、改めて処理権を取得する
+        }
+    }
+
+    private void execute(String key, String fingerprint, long deadline,
+                         CachedBodyRequest request, HttpServletResponse response,
+                         FilterChain filterChain, CompletableFuture<IdempotentResponse> mine)
+            throws ServletException, IOException {
+
+        IdempotentResponse result = null;
+        try {
+            Instant expiresAt = Instant.now().plus(properties.getTtl());
+            if (sharedStore != null && !sharedStore.tryClaim(key, fingerprint, expiresAt)) {
+                // 他ノードで処理中
+                result = awaitSharedStore(key, deadline);
+                if (result == null) {
+                    writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+                } else {
+                    replay(result, fingerprint, response);
+                }
+                return;
+            }
+
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            try {
+                filterChain.doFilter(request, wrapper);
+
+                if (wrapper.getStatus() < 500) {
+                    result = new IdempotentResponse(fingerprint, wrapper.getStatus(),
+                            wrapper.getContentType(), wrapper.getContentAsByteArray(), expiresAt);
+                    localStore.complete(key, result);
+                    if (sharedStore != null) {
+                        sharedStore.complete(key, result);
+                    }
+                }
+            } finally {
+                if (result == null && sharedStore != null) {
+                    sharedStore.release(key);
+                }
+                wrapper.copyBodyToResponse();
+            }
+        } finally {
+            mine.complete(result);
+        }
+    }
+
+    private Optional<IdempotentResponse> lookup(String key) {
+        Optional<IdempotentResponse> local = localStore.find(key);
+        if (local.isPresent() || sharedStore == null) {
+            return local;
+        }
+
+        Optional<IdempotentResponse> shared = sharedStore.find(key);
+        shared.ifPresent(response -> localStore.complete(key, response));
+        return shared;
+    }
+
+    private IdempotentResponse awaitSharedStore(String key, long deadline) {
+        long intervalMillis = properties.getPollInterval().toMillis();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            Optional<IdempotentResponse> stored = sharedStore.find(key);
+            if (stored.isPresent()) {
+                localStore.complete(key, stored.get());
+                return stored.get();
+            }
+        }
+        return null;
+    }
+
+    private void replay(IdempotentResponse stored, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        // 同じキーで異なる内容のリクエストは再送とみなさない
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode));
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * ハッシュ計算後もコントローラーがボディを読めるよう、先に読み込んで保持する
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
+
+
+// ==========================================
+// 🔧 IdempotencyConfig.java - 冪等キー設定
+// パス: src/main/java/com/taskflow/global/config/IdempotencyConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.global.idempotency.IdempotencyFilter;
+import com.taskflow.global.idempotency.IdempotencyProperties;
+import com.taskflow.global.idempotency.IdempotencyRecordRepository;
+import com.taskflow.global.idempotency.InMemoryIdempotencyStore;
+import com.taskflow.global.idempotency.JpaIdempotencyStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Idempotency-Key 処理の設定
+ * フィルターはSecurityConfigでJWT認証フィルターの後に登録する
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "taskflow.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public InMemoryIdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.getMaxEntries());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "taskflow.idempotency", name = "shared-store", havingValue = "true")
+    public JpaIdempotencyStore jpaIdempotencyStore(IdempotencyRecordRepository repository,
+                                                   IdempotencyProperties properties) {
+        return new JpaIdempotencyStore(repository, properties);
+    }
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(IdempotencyProperties properties,
+                                               InMemoryIdempotencyStore inMemoryIdempotencyStore,
+                                               ObjectProvider<JpaIdempotencyStore> jpaIdempotencyStore,
+                                               ObjectMapper objectMapper) {
+        return new IdempotencyFilter(properties, inMemoryIdempotencyStore,
+                jpaIdempotencyStore.getIfAvailable(), objectMapper);
+    }
+
+    /**
+     * サーブレットフィルターとしての自動登録を無効化（Securityフィルターチェーン内でのみ実行）
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
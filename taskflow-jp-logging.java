@@ -0,0 +1,282 @@
+// ==========================================
+// ⚙️ LoggingProperties.java - ログ出力モード設定
+// パス: src/main/java/com/taskflow/global/logging/LoggingProperties.java
+// ==========================================
+
+package com.taskflow.global.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 高負荷時向けのログ出力設定
+ *
+ * <pre>
+ * taskflow:
+ *   logging:
+ *     mode: fast
+ *     info-sample-rate: 0.05
+ *     warn-per-second: 5
+ * </pre>
+ * mode=fast の時:
+ * - 既存アペンダーを非同期（キュー満杯時は破棄）に切り替え
+ * - パターンに %kvp を追加し、addKeyValueで付与したキー/値を出力
+ * - サービス層のINFOをサンプリング、セキュリティ系のWARN以上を秒間件数で制限
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.logging")
+public class LoggingProperties {
+
+    public enum Mode { STANDARD, FAST }
+
+    private Mode mode = Mode.STANDARD;
+
+    /**
+     * 非同期キューのサイズ
+     */
+    private int queueSize = 8192;
+
+    /**
+     * キューの残りがこの件数を下回るとINFO以下を破棄（WARN以上は保持）
+     */
+    private int discardingThreshold = 1024;
+
+    /**
+     * fastモードのパターン（%kvpでキー/値を出力）
+     */
+    private String pattern = "%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg %kvp%n";
+
+    /**
+     * INFOをサンプリングするロガー（前方一致）と出力する割合
+     */
+    private List<String> sampledLoggers = new ArrayList<>(List.of("com.taskflow.domain"));
+    private double infoSampleRate = 0.1;
+
+    /**
+     * WARN以上を件数制限するロガー（前方一致）と、同一メッセージあたりの秒間上限
+     */
+    private List<String> rateLimitedLoggers = new ArrayList<>(List.of("com.taskflow.global.security"));
+    private int warnPerSecond = 10;
+}
+
+
+// ==========================================
+// 🎚️ LogSamplingTurboFilter.java - ログのサンプリング/件数制限
+// パス: src/main/java/com/taskflow/global/logging/LogSamplingTurboFilter.java
+// ==========================================
+
+package com.taskflow.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Marker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * メッセージ整形・イベント生成の前に出力可否を判定するフィルター
+ *
+ * - sampledLoggers のINFO: infoSampleRate の割合のみ出力
+ * - rateLimitedLoggers のWARN以上: 同じロガー・メッセージ雛形ごとに1秒あたりwarnPerSecond件まで
+ * 抑制した件数は taskflow.logging.suppressed メトリクスで確認できます
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final int MAX_TRACKED_MESSAGES = 1000;
+
+    private final List<String> sampledLoggers;
+    private final double infoSampleRate;
+    private final List<String> rateLimitedLoggers;
+    private final int warnPerSecond;
+    private final Counter sampledCounter;
+    private final Counter rateLimitedCounter;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogSamplingTurboFilter(LoggingProperties properties, Counter sampledCounter, Counter rateLimitedCounter) {
+        this.sampledLoggers = List.copyOf(properties.getSampledLoggers());
+        this.infoSampleRate = properties.getInfoSampleRate();
+        this.rateLimitedLoggers = List.copyOf(properties.getRateLimitedLoggers());
+        this.warnPerSecond = properties.getWarnPerSecond();
+        this.sampledCounter = sampledCounter;
+        this.rateLimitedCounter = rateLimitedCounter;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() 呼び出し時はformatがnullのため判定しない
+        if (format == null || level == null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (level == Level.INFO && matches(logger.getName(), sampledLoggers)) {
+            if (ThreadLocalRandom.current().nextDouble() < infoSampleRate) {
+                return FilterReply.NEUTRAL;
+            }
+            sampledCounter.increment();
+            return FilterReply.DENY;
+        }
+
+        if (level.isGreaterOrEqual(Level.WARN) && matches(logger.getName(), rateLimitedLoggers)) {
+            if (tryAcquire(logger.getName() + '|' + format)) {
+                return FilterReply.NEUTRAL;
+            }
+            rateLimitedCounter.increment();
+            return FilterReply.DENY;
+        }
+
+        return FilterReply.NEUTRAL;
+    }
+
+    private boolean tryAcquire(String key) {
+        // メッセージ雛形は有限だが、念のため件数を抑える
+        if (windows.size() > MAX_TRACKED_MESSAGES) {
+            windows.clear();
+        }
+        long second = System.currentTimeMillis() / 1000;
+        return windows.computeIfAbsent(key, k -> new Window()).tryAcquire(second, warnPerSecond);
+    }
+
+    private static boolean matches(String loggerName, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 1秒単位の固定ウィンドウ
+     */
+    private static class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int limit) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
+
+
+// ==========================================
+// 🔧 LoggingConfig.java - 高速ログモード設定
+// パス: src/main/java/com/taskflow/global/config/LoggingConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.taskflow.global.logging.LogSamplingTurboFilter;
+import com.taskflow.global.logging.LoggingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * taskflow.logging.mode=fast の時、Spring Bootが構成したLogbackを
+ * 非同期・キー/値出力・サンプリング付きに組み替える
+ *
+ * アプリケーションのログ呼び出し箇所は変更不要
+ * fast-startupプロファイル（遅延初期化）でも起動時に適用するため @Lazy(false)
+ */
+@Slf4j
+@Configuration
+@Lazy(false)
+@RequiredArgsConstructor
+@EnableConfigurationProperties(LoggingProperties.class)
+@ConditionalOnProperty(prefix = "taskflow.logging", name = "mode", havingValue = "fast")
+public class LoggingConfig {
+
+    private static final String ASYNC_APPENDER_NAME = "TASKFLOW_ASYNC";
+
+    private final LoggingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void configureLogback() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+
+        if (root.getAppender(ASYNC_APPENDER_NAME) == null) {
+            List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+            root.iteratorForAppenders().forEachRemaining(appenders::add);
+
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName(ASYNC_APPENDER_NAME);
+            async.setQueueSize(properties.getQueueSize());
+            async.setDiscardingThreshold(properties.getDiscardingThreshold());
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+
+            // 既存アペンダーをルートから外し、非同期アペンダー経由で出力する
+            for (Appender<ILoggingEvent> appender : appenders) {
+                root.detachAppender(appender);
+                if (appender instanceof OutputStreamAppender<ILoggingEvent> output) {
+                    output.setEncoder(keyValueEncoder(context));
+                }
+                async.addAppender(appender);
+            }
+            async.start();
+            root.addAppender(async);
+        }
+
+        context.addTurboFilter(new LogSamplingTurboFilter(properties,
+                suppressedCounter("sampled"), suppressedCounter("rate_limited")));
+
+        log.atInfo()
+                .addKeyValue("queueSize", properties.getQueueSize())
+                .addKeyValue("infoSampleRate", properties.getInfoSampleRate())
+                .addKeyValue("warnPerSecond", properties.getWarnPerSecond())
+                .log("高速ログモード有効化");
+    }
+
+    private PatternLayoutEncoder keyValueEncoder(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(properties.getPattern());
+        encoder.start();
+        return encoder;
+    }
+
+    private Counter suppressedCounter(String reason) {
+        return Counter.builder("taskflow.logging.suppressed")
+                .description("サンプリング・件数制限で出力しなかったログ件数")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
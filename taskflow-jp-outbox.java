@@ -0,0 +1,545 @@
+// ==========================================
+// ⚙️ OutboxProperties.java - アウトボックス設定
+// パス: src/main/java/com/taskflow/global/outbox/OutboxProperties.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ドメインイベントのアウトボックス設定
+ *
+ * <pre>
+ * taskflow:
+ *   outbox:
+ *     relay-enabled: true     # イベントを配信しないノードではfalse（記録は常に行う）
+ *     poll-interval-ms: 500
+ *     batch-size: 200
+ *     max-attempts: 8
+ * </pre>
+ * 複数ノードで配信する場合も FOR UPDATE SKIP LOCKED で行を分担し、
+ * 同じ集約（タスク・チーム）のイベントは記録順に配信される
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.outbox")
+public class OutboxProperties {
+
+    private boolean relayEnabled = true;
+
+    /**
+     * 1トランザクションでロック・配信する件数
+     */
+    private int batchSize = 200;
+
+    /**
+     * 配信に失敗したイベントの再試行回数（超えるとFAILEDとして残し、後続イベントを配信する）
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * 再試行間隔（試行毎に2倍、maxBackoffまで）
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+}
+
+
+// ==========================================
+// 🏷️ OutboxEventType.java - ドメインイベントの種類
+// パス: src/main/java/com/taskflow/global/outbox/OutboxEventType.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    TASK_CREATED(AggregateType.TASK),
+    TASK_UPDATED(AggregateType.TASK),
+    TASK_PATCHED(AggregateType.TASK),
+    TASK_STATUS_CHANGED(AggregateType.TASK),
+    TASK_DELETED(AggregateType.TASK),
+    TASK_DEPENDENCY_ADDED(AggregateType.TASK),
+    TASK_DEPENDENCY_REMOVED(AggregateType.TASK),
+    TASK_MOVED(AggregateType.TASK),
+    TEAM_CREATED(AggregateType.TEAM),
+    TEAM_UPDATED(AggregateType.TEAM),
+    TEAM_DELETED(AggregateType.TEAM),
+    TEAM_MEMBER_ADDED(AggregateType.TEAM);
+
+    /**
+     * 配信順序を保証する単位
+     */
+    public enum AggregateType { TASK, TEAM }
+
+    private final AggregateType aggregateType;
+}
+
+
+// ==========================================
+// 📨 OutboxEvent.java - アウトボックスの行
+// パス: src/main/java/com/taskflow/global/outbox/OutboxEvent.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 業務データと同じトランザクションで記録するイベント
+ * 配信済みの行はリレーが一括削除し、再試行上限を超えた行のみFAILEDとして残る
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_status_id", columnList = "status, id"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    public enum Status { PENDING, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private OutboxEventType.AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(OutboxEventType eventType, Long aggregateId, String payload, LocalDateTime now) {
+        this.aggregateType = eventType.getAggregateType();
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.availableAt = now;
+        this.createdAt = now;
+    }
+
+    public String getAggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+
+    /**
+     * 配信失敗を記録し、再試行上限に達した場合はFAILEDにする
+     */
+    public void recordFailure(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.availableAt = retryAt;
+        if (attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+        }
+    }
+}
+
+
+// ==========================================
+// ✉️ OutboxMessage.java - 購読者へ渡すイベント
+// パス: src/main/java/com/taskflow/global/outbox/OutboxMessage.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * payloadはJSON文字列（タスクはTaskResponse、チームはTeamResponse、削除等はIDのみ）
+ */
+@Getter
+@RequiredArgsConstructor
+public class OutboxMessage {
+
+    private final Long id;
+    private final OutboxEventType eventType;
+    private final Long aggregateId;
+    private final String payload;
+    private final LocalDateTime createdAt;
+
+    static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateId(),
+                event.getPayload(), event.getCreatedAt());
+    }
+}
+
+
+// ==========================================
+// 📬 OutboxSubscriber.java - イベント購読者
+// パス: src/main/java/com/taskflow/global/outbox/OutboxSubscriber.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+/**
+ * リレーからイベントを受け取る同一プロセス内の購読者（Beanとして登録）
+ *
+ * 購読者は @Order の順に呼ばれ、いずれかが例外を投げた場合はイベント全体を再配信する。
+ * 再配信により同じイベントを複数回受け取ることがあるため、処理はイベントIDで冪等にすること。
+ * リレーのトランザクション内で呼ばれるため、DBを更新する場合は REQUIRES_NEW で行うこと
+ */
+public interface OutboxSubscriber {
+
+    default boolean supports(OutboxEventType eventType) {
+        return true;
+    }
+
+    void handle(OutboxMessage message);
+}
+
+
+// ==========================================
+// 📦 OutboxEventRepository.java - アウトボックスリポジトリ
+// パス: src/main/java/com/taskflow/global/outbox/OutboxEventRepository.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 配信可能なイベントをロックして取得
+     * 前のイベントが再試行待ちの集約は除外し、再試行待ちの集約が多くても配信できる行でバッチを埋める
+     * 他ノードがロック中の行は待たずに飛ばす（サブクエリの行はロックしない）
+     */
+    @Query(value = "SELECT * FROM outbox_events e " +
+                   "WHERE e.status = 'PENDING' AND e.available_at <= :now " +
+                   "AND NOT EXISTS (SELECT 1 FROM outbox_events p " +
+                   "WHERE p.aggregate_type = e.aggregate_type AND p.aggregate_id = e.aggregate_id " +
+                   "AND p.id < e.id AND p.status = 'PENDING' AND p.available_at > :now) " +
+                   "ORDER BY e.id LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockAvailable(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    /**
+     * 取得したバッチより前に、未配信のイベントが残っている集約
+     * （他ノードが配信中）。これらの集約は順序を守るため今回は配信しない
+     */
+    @Query(value = "SELECT DISTINCT CONCAT(aggregate_type, ':', aggregate_id) FROM outbox_events " +
+                   "WHERE status = 'PENDING' AND id < :maxId AND id NOT IN (:ids)",
+           nativeQuery = true)
+    List<String> findBlockedAggregates(@Param("maxId") Long maxId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
+
+
+// ==========================================
+// 📝 OutboxRecorder.java - イベントの記録
+// パス: src/main/java/com/taskflow/global/outbox/OutboxRecorder.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 業務データの変更と同じトランザクションでアウトボックスへ記録する
+ * ロールバック時はイベントも残らず、コミットされた変更のイベントは必ず配信される
+ */
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public void record(OutboxEventType eventType, Long aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("イベントのシリアライズに失敗しました: " + eventType, e);
+        }
+        outboxEventRepository.save(new OutboxEvent(eventType, aggregateId, json, LocalDateTime.now()));
+    }
+}
+
+
+// ==========================================
+// 📡 OutboxRelay.java - イベントの配信
+// パス: src/main/java/com/taskflow/global/outbox/OutboxRelay.java
+// ==========================================
+
+package com.taskflow.global.outbox;
+
+import com.taskflow.global.config.OutboxConfig;
+import com.taskflow.global.shard.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * アウトボックスをバッチ単位でポーリングし、購読者へ配信する
+ *
+ * 1バッチ = 1トランザクション:
+ * 1. PENDINGの行をid順に FOR UPDATE SKIP LOCKED で取得（前のイベントが再試行待ちの集約はクエリで除外）
+ * 2. 前のイベントを他ノードが処理中の集約は除外
+ * 3. id順に購読者へ配信し、失敗した集約の後続イベントはこのバッチでは配信しない
+ * 4. 配信済みの行を1回のDELETEで削除
+ * シャーディング有効時は各シャードのアウトボックスを順に処理する
+ *
+ * 専用のスケジューラ（outboxRelayScheduler）で実行し、他の定期ジョブを待たせない
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSubscriber> subscribers;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final Counter dispatchedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       List<OutboxSubscriber> subscribers,
+                       ShardRouter shardRouter,
+                       TransactionTemplate transactionTemplate,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.subscribers = List.copyOf(subscribers);
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.dispatchedCounter = outboxCounter(meterRegistry, "dispatched");
+        this.retriedCounter = outboxCounter(meterRegistry, "retried");
+        this.failedCounter = outboxCounter(meterRegistry, "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.outbox.poll-interval-ms:500}", scheduler = OutboxConfig.RELAY_SCHEDULER)
+    public void relay() {
+        for (String shard : shardRouter.shards()) {
+            try {
+                shardRouter.runOn(shard, this::relayShard);
+            } catch (RuntimeException e) {
+                log.error("アウトボックス配信失敗: shard={}", shard, e);
+            }
+        }
+    }
+
+    private void relayShard() {
+        // 配信または失敗を記録できた間は続けて処理する
+        // ロックした行が全て他ノードの処理待ちの集約の場合は、次のポーリングまで待つ（同じ行を繰り返しロックしない）
+        int processed;
+        do {
+            processed = transactionTemplate.execute(status -> relayBatch());
+        } while (processed > 0);
+    }
+
+    /**
+     * @return 配信した件数と失敗を記録した件数の合計（スキップした行は含まない）
+     */
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockAvailable(now, properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = events.stream().map(OutboxEvent::getId).collect(Collectors.toList());
+        Set<String> blocked = new HashSet<>(
+                outboxEventRepository.findBlockedAggregates(ids.get(ids.size() - 1), ids));
+
+        List<Long> delivered = new ArrayList<>();
+        int failed = 0;
+        for (OutboxEvent event : events) {
+            if (blocked.contains(event.getAggregateKey())) {
+                continue;
+            }
+            try {
+                dispatch(event);
+                delivered.add(event.getId());
+            } catch (RuntimeException e) {
+                blocked.add(event.getAggregateKey());
+                failed++;
+                event.recordFailure(e.toString(), now.plus(backoff(event.getAttempts())), properties.getMaxAttempts());
+                if (event.getStatus() == OutboxEvent.Status.FAILED) {
+                    failedCounter.increment();
+                    log.error("アウトボックス配信を中止: eventId={}, type={}, aggregateId={}",
+                            event.getId(), event.getEventType(), event.getAggregateId(), e);
+                } else {
+                    retriedCounter.increment();
+                    log.warn("アウトボックス配信失敗（再試行）: eventId={}, attempts={}, error={}",
+                            event.getId(), event.getAttempts(), e.toString());
+                }
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteByIds(delivered);
+            dispatchedCounter.increment(delivered.size());
+        }
+        return delivered.size() + failed;
+    }
+
+    private void dispatch(OutboxEvent event) {
+        OutboxMessage message = OutboxMessage.from(event);
+        for (OutboxSubscriber subscriber : subscribers) {
+            if (subscriber.supports(event.getEventType())) {
+                subscriber.handle(message);
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    private static Counter outboxCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("taskflow.outbox.events")
+                .description("アウトボックスイベントの配信結果別件数")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
+
+
+// ==========================================
+// 🔧 OutboxConfig.java - アウトボックス設定
+// パス: src/main/java/com/taskflow/global/config/OutboxConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.global.outbox.OutboxEventRepository;
+import com.taskflow.global.outbox.OutboxProperties;
+import com.taskflow.global.outbox.OutboxRecorder;
+import com.taskflow.global.outbox.OutboxRelay;
+import com.taskflow.global.outbox.OutboxSubscriber;
+import com.taskflow.global.shard.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Collectors;
+
+/**
+ * 記録は常に有効、配信はrelay-enabledのノードのみ
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    public static final String RELAY_SCHEDULER = "outboxRelayScheduler";
+
+    @Bean
+    public OutboxRecorder outboxRecorder(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        return new OutboxRecorder(outboxEventRepository, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "taskflow.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository,
+                                   ObjectProvider<OutboxSubscriber> subscribers,
+                                   ShardRouter shardRouter,
+                                   TransactionTemplate transactionTemplate,
+                                   OutboxProperties properties,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxEventRepository,
+                subscribers.orderedStream().collect(Collectors.toList()),
+                shardRouter, transactionTemplate, properties, meterRegistry);
+    }
+
+    /**
+     * 配信専用のスケジューラ（配信が長引いても他の定期ジョブは SchedulingConfig のスケジューラで動く）
+     */
+    @Bean(name = RELAY_SCHEDULER)
+    @ConditionalOnProperty(prefix = "taskflow.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public ThreadPoolTaskScheduler outboxRelayScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("outbox-relay-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -0,0 +1,281 @@
+-- ==========================================
+-- 🗃️ V1__baseline_schema.sql - 基準スキーマ
+-- パス: src/main/resources/db/migration/V1__baseline_schema.sql
+-- ==========================================
+--
+-- Flyway導入前のアプリがHibernateの自動生成（ddl-auto）で作成していたテーブル（users, teams, team_members, tasks）
+-- 自動生成で作成済みのDBは baseline-on-migrate によりこのバージョンを適用済みとして扱い、V2から適用する
+-- その後に追加したテーブル・列はV3以降で作成するため、ここには追加しないこと
+--
+-- Enumの列は（Hibernateが生成するENUM型ではなく）VARCHARとし、定数の追加でDDLを不要にする（エンティティは @JdbcTypeCode(SqlTypes.VARCHAR)）
+-- 外部キー列の索引はMySQLが外部キー制約に合わせて自動作成する
+
+CREATE TABLE users (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(100) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    name        VARCHAR(50)  NOT NULL,
+    role        VARCHAR(20)  NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE teams (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    created_by  BIGINT       NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_teams_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE team_members (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    team_id     BIGINT      NOT NULL,
+    user_id     BIGINT      NOT NULL,
+    role        VARCHAR(20) NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_team_members_team_user UNIQUE (team_id, user_id),
+    CONSTRAINT fk_team_members_team FOREIGN KEY (team_id) REFERENCES teams (id),
+    CONSTRAINT fk_team_members_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE tasks (
+    id          BIGINT        NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(200)  NOT NULL,
+    description VARCHAR(2000),
+    status      VARCHAR(20)   NOT NULL,
+    priority    VARCHAR(20)   NOT NULL,
+    due_date    DATE,
+    assignee_id BIGINT,
+    team_id     BIGINT        NOT NULL,
+    created_by  BIGINT        NOT NULL,
+    version     BIGINT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_assignee FOREIGN KEY (assignee_id) REFERENCES users (id),
+    CONSTRAINT fk_tasks_team FOREIGN KEY (team_id) REFERENCES teams (id),
+    CONSTRAINT fk_tasks_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+
+-- ==========================================
+-- 🗃️ V2__enum_columns_as_varchar.sql - Enumの列をVARCHARへ変更（MySQL）
+-- パス: src/main/resources/db/migration/mysql/V2__enum_columns_as_varchar.sql
+-- ==========================================
+--
+-- 自動生成で作成済みのDB（baseline）ではENUM型のため、V1と同じVARCHARへ揃える
+-- （定数の追加でINSERTが失敗せず、ddl-auto: validate でエンティティと一致する）
+-- V1から作成したDBでは型が変わらないため、テーブルはコピーされない
+--
+-- ENUMからVARCHARへの変更はテーブルをコピーするALTER（ALGORITHM=COPY）で、実行中は書き込みがブロックされる
+-- テーブル毎に1文にまとめ、コピーは1テーブル1回とする。索引の作成（V4）より前に実行し、作成した索引をコピーし直さない
+-- 大きなテーブルでは事前にpt-online-schema-change等で同じ変更を適用しておく（taskflow-jp-schema-migrations.md 参照）
+
+ALTER TABLE users
+    MODIFY role VARCHAR(20) NOT NULL;
+
+ALTER TABLE team_members
+    MODIFY role VARCHAR(20) NOT NULL;
+
+ALTER TABLE tasks
+    MODIFY status VARCHAR(20) NOT NULL,
+    MODIFY priority VARCHAR(20) NOT NULL;
+
+
+-- ==========================================
+-- 🗃️ V2__enum_columns_as_varchar.sql - Enumの列をVARCHARへ変更（H2）
+-- パス: src/main/resources/db/migration/h2/V2__enum_columns_as_varchar.sql
+-- ==========================================
+--
+-- MySQL版と同じ変更。H2のMySQL互換モードでは1文で変更できる列は1つのため、列毎に分ける
+
+ALTER TABLE users MODIFY role VARCHAR(20) NOT NULL;
+ALTER TABLE team_members MODIFY role VARCHAR(20) NOT NULL;
+ALTER TABLE tasks MODIFY status VARCHAR(20) NOT NULL;
+ALTER TABLE tasks MODIFY priority VARCHAR(20) NOT NULL;
+
+
+-- ==========================================
+-- 🗃️ V3__background_processing_tables.sql - 論理削除・集計・Outbox等のテーブル
+-- パス: src/main/resources/db/migration/V3__background_processing_tables.sql
+-- ==========================================
+--
+-- Flyway導入までに追加した列・テーブル（チームの論理削除、シャード割り当て、アーカイブ、
+-- 状態遷移・日次集計、担当者別タスク数、タスクの依存関係、Outbox、Idempotency-Key）
+-- Instant の列はHibernateの対応型に合わせてTIMESTAMP、LocalDateTime の列はDATETIMEとする
+-- 既存の行がある teams への列追加は、MySQLでは末尾への追加（ALGORITHM=INSTANT）のためテーブルをコピーしない
+
+ALTER TABLE teams ADD COLUMN deleted BIT NOT NULL DEFAULT 0;
+ALTER TABLE teams ADD COLUMN deleted_at DATETIME(6);
+
+CREATE TABLE team_deletion_jobs (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    team_id         BIGINT       NOT NULL,
+    requested_by    BIGINT       NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    deleted_tasks   BIGINT       NOT NULL,
+    deleted_members BIGINT       NOT NULL,
+    completed_at    DATETIME(6),
+    failure_reason  VARCHAR(500),
+    attempts        INT          NOT NULL,
+    retry_at        DATETIME(6),
+    version         BIGINT,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_team_deletion_jobs_team UNIQUE (team_id),
+    -- 削除ジョブの取得（未完了の状態のみ）
+    INDEX idx_team_deletion_jobs_status (status)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE team_shards (
+    team_id     BIGINT      NOT NULL,
+    shard       VARCHAR(64) NOT NULL,
+    state       VARCHAR(20) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (team_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE archived_tasks (
+    id          BIGINT        NOT NULL,
+    title       VARCHAR(200)  NOT NULL,
+    description VARCHAR(2000),
+    status      VARCHAR(20)   NOT NULL,
+    priority    VARCHAR(20)   NOT NULL,
+    due_date    DATE,
+    assignee_id BIGINT,
+    team_id     BIGINT        NOT NULL,
+    created_by  BIGINT        NOT NULL,
+    version     BIGINT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    archived_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_archived_tasks_team (team_id, archived_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE task_status_transitions (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    task_id     BIGINT      NOT NULL,
+    team_id     BIGINT      NOT NULL,
+    from_status VARCHAR(20) NOT NULL,
+    to_status   VARCHAR(20) NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_transitions_team (team_id, changed_at),
+    INDEX idx_transitions_task (task_id, changed_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE team_daily_stats (
+    id                 BIGINT NOT NULL AUTO_INCREMENT,
+    team_id            BIGINT NOT NULL,
+    stat_date          DATE   NOT NULL,
+    created_count      BIGINT NOT NULL,
+    completed_count    BIGINT NOT NULL,
+    reopened_count     BIGINT NOT NULL,
+    deleted_count      BIGINT NOT NULL,
+    cycle_time_seconds BIGINT NOT NULL,
+    cycle_time_count   BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_team_daily_stats UNIQUE (team_id, stat_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE user_workloads (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT      NOT NULL,
+    status      VARCHAR(20) NOT NULL,
+    priority    VARCHAR(20) NOT NULL,
+    task_count  BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_workloads UNIQUE (user_id, status, priority)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE task_dependencies (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    team_id         BIGINT      NOT NULL,
+    blocker_task_id BIGINT      NOT NULL,
+    blocked_task_id BIGINT      NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_task_dependencies UNIQUE (blocker_task_id, blocked_task_id),
+    INDEX idx_task_dependencies_team (team_id),
+    INDEX idx_task_dependencies_blocked (blocked_task_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE task_dependency_versions (
+    team_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (team_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE task_closures (
+    ancestor_id   BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth         INT    NOT NULL,
+    team_id       BIGINT NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_task_closures_descendant (descendant_id, depth),
+    INDEX idx_task_closures_team (team_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE outbox_events (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(20)  NOT NULL,
+    aggregate_id   BIGINT       NOT NULL,
+    event_type     VARCHAR(40)  NOT NULL,
+    payload        TEXT         NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    attempts       INT          NOT NULL,
+    last_error     VARCHAR(500),
+    available_at   DATETIME(6)  NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_outbox_status_id (status, id),
+    INDEX idx_outbox_aggregate (aggregate_type, aggregate_id, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(320) NOT NULL,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    completed       BIT          NOT NULL,
+    response_status INT,
+    content_type    VARCHAR(100),
+    body            MEDIUMBLOB,
+    claimed_at      TIMESTAMP(6) NOT NULL,
+    expires_at      TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_keys_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+
+-- ==========================================
+-- 🗃️ V4__task_access_path_indexes.sql - 検索条件に合わせた索引
+-- パス: src/main/resources/db/migration/V4__task_access_path_indexes.sql
+-- ==========================================
+--
+-- 1文に1索引（H2のMySQL互換モードでも実行できる形式。MySQLではいずれもオンラインDDL（ALGORITHM=INPLACE, LOCK=NONE）で、作成中も読み書き可能）
+-- assignee_id・team_id を先頭に持つ索引は外部キーにも使われ、自動作成された単一列の索引は不要になる
+-- created_by（自分のタスク・チーム一覧のOR条件）は外部キーの索引をそのまま使う
+
+-- チームのタスク一覧（作成日時順のページング）、日次集計の再作成
+CREATE INDEX idx_tasks_team_created ON tasks (team_id, created_at);
+
+-- ボード（チーム・状態別の件数と上位N件）、状態別の件数、完了タスクの日次集計
+CREATE INDEX idx_tasks_team_status ON tasks (team_id, status, priority, due_date);
+
+-- 自分のタスク（担当分）、担当者別タスク数の再集計（索引のみで集計できる）
+CREATE INDEX idx_tasks_assignee_status ON tasks (assignee_id, status, priority);
+
+-- 期限間近・期限切れ（未完了の状態毎に期限の範囲を検索）
+CREATE INDEX idx_tasks_status_due ON tasks (status, due_date);
+
+-- アーカイブ対象（完了かつ更新日時が閾値より前を古い順に）
+CREATE INDEX idx_tasks_status_updated ON tasks (status, updated_at);
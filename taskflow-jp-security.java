@@ -5,8 +5,10 @@
 
 package com.taskflow.global.config;
 
+import com.taskflow.global.idempotency.IdempotencyFilter;
 import com.taskflow.global.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,6 +30,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ObjectProvider<IdempotencyFilter> idempotencyFilter;
 
     /**
      * Securityフィルターチェーン設定
@@ -60,6 +63,10 @@ public class SecurityConfig {
             // JWTフィルター追加
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Idempotency-Keyはユーザー単位で管理するため、JWT認証の後に実行
+        idempotencyFilter.ifAvailable(filter ->
+            http.addFilterAfter(filter, JwtAuthenticationFilter.class));
+
         return http.build();
     }
 
@@ -142,17 +149,25 @@ public class JwtTokenProvider {
             parseClaims(token);
             return true;
         } catch (SecurityException | MalformedJwtException e) {
-            log.error("無効なJWT署名です");
+            logInvalidToken("invalid_signature");
         } catch (ExpiredJwtException e) {
-            log.error("期限切れのJWTトークンです");
+            logInvalidToken("expired");
         } catch (UnsupportedJwtException e) {
-            log.error("サポートされていないJWTトークンです");
+            logInvalidToken("unsupported");
         } catch (IllegalArgumentException e) {
-            log.error("JWTトークンが間違っています");
+            logInvalidToken("malformed");
         }
         return false;
     }
 
+    /**
+     * 不正トークンはクライアント起因のためWARNで出力
+     * メッセージを固定し理由をキー/値にすることで、高速ログモードの件数制限が理由をまたいで効くようにする
+     */
+    private void logInvalidToken(String reason) {
+        log.atWarn().addKeyValue("reason", reason).log("JWT検証失敗");
+    }
+
     /**
      * JWTトークンパース
      */
@@ -238,10 +253,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // 5. SecurityContextに認証情報保存
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 
-                log.debug("JWT認証成功: userId={}", userId);
+                log.atDebug().addKeyValue("userId", userId).log("JWT認証成功");
             }
         } catch (Exception e) {
-            log.error("JWT認証失敗: {}", e.getMessage());
+            log.atWarn()
+                    .addKeyValue("error", e.getClass().getSimpleName())
+                    .addKeyValue("message", e.getMessage())
+                    .log("JWT認証失敗");
         }
 
         // 6. 次のフィルターへ進行
@@ -0,0 +1,1464 @@
+// ==========================================
+// ⚙️ ShardingProperties.java - シャーディング設定
+// パス: src/main/java/com/taskflow/global/shard/ShardingProperties.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import com.taskflow.global.datasource.ReplicationDataSourceProperties;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * チーム単位の水平シャーディング設定
+ *
+ * チームに属するデータ（tasks, team_members, archived_tasks, task_status_transitions,
+ * team_daily_stats, user_workloads）はチームのシャードに保持し、
+ * users・teams は既定シャードを正本として全シャードへ複製する。
+ * シャードの割り当て（team_shards）、チーム削除ジョブ、Idempotency-Keyは既定シャードのみに置く。
+ *
+ * ローカルでは複数のH2インスタンスで動作確認できます:
+ * <pre>
+ * taskflow:
+ *   datasource:
+ *     sharding:
+ *       enabled: true
+ *       default-shard: shard-0
+ *       shards:
+ *         shard-0:
+ *           url: jdbc:h2:file:./build/h2/shard0;MODE=MySQL;AUTO_SERVER=TRUE
+ *           username: sa
+ *         shard-1:
+ *           url: jdbc:h2:file:./build/h2/shard1;MODE=MySQL;AUTO_SERVER=TRUE
+ *           username: sa
+ * </pre>
+ * スキーマは起動時にFlywayが全シャードへ同じマイグレーションを適用して作成する
+ * （H2のMySQL互換モードで実行できない変更は db/migration/h2 にH2用のマイグレーションを置く）。
+ * シャード間でIDが重複しないようにすること。
+ * MySQLでは auto_increment_increment（シャード数の上限）と auto_increment_offset（シャード番号+1）、
+ * H2では初回起動後に ALTER TABLE tasks ALTER COLUMN id RESTART WITH 1000000000 のように範囲を分ける。
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "taskflow.datasource.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    private String defaultShard = "shard-0";
+
+    private Map<String, ReplicationDataSourceProperties.Node> shards = new LinkedHashMap<>();
+
+    /**
+     * 新規チームを配置するシャード（未指定時は全シャード）
+     */
+    private List<String> placementShards = new ArrayList<>();
+
+    /**
+     * team_shards のキャッシュ有効期間
+     * 移行ツールは状態変更の度にこの時間だけ待ち、全ノードが新しい状態を読むようにする
+     */
+    private Duration directoryCacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * チームをまたぐ照会の並列数とタイムアウト
+     */
+    private int scatterThreads = 8;
+    private Duration scatterTimeout = Duration.ofSeconds(5);
+
+    /**
+     * シャード間コピー・削除の1回あたりの行数
+     */
+    private int copyChunkSize = 500;
+
+    private Migrate migrate = new Migrate();
+
+    /**
+     * 移行ツール（指定時は処理後にアプリケーションを終了）
+     */
+    @Getter
+    @Setter
+    public static class Migrate {
+        private Long teamId;
+        private String target;
+
+        /**
+         * 作成時のシャード初期化（配置・チーム行の複製・リーダーの追加）が失敗したチームを修復する
+         */
+        private Long initializeTeamId;
+
+        /**
+         * users・teams を既定シャードから全シャードへ複製（シャーディング導入時に1回実行）
+         */
+        private boolean syncReferences;
+    }
+}
+
+
+// ==========================================
+// 🧭 ShardContext.java - 処理中のシャード
+// パス: src/main/java/com/taskflow/global/shard/ShardContext.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+/**
+ * 現在のスレッドが使用するシャード
+ * 未設定の場合は既定シャードへ接続する
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void set(String shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
+
+
+// ==========================================
+// 🔑 ShardKey.java - シャードキー引数
+// パス: src/main/java/com/taskflow/global/shard/ShardKey.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * この引数が示すチームのシャードでメソッド全体（トランザクションを含む）を実行する
+ *
+ * <pre>
+ * public Page&lt;TaskResponse&gt; getTasksByTeam(@ShardKey Long teamId, Pageable pageable)
+ * public TaskResponse createTask(Long userId, @ShardKey("teamId") TaskRequest request)
+ * public void deleteTask(@ShardKey(type = ShardKey.Type.TASK) Long taskId)
+ * </pre>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ShardKey {
+
+    enum Type { TEAM, TASK }
+
+    /**
+     * 引数がDTOの場合、IDを持つプロパティ名
+     */
+    String value() default "";
+
+    Type type() default Type.TEAM;
+}
+
+
+// ==========================================
+// 📚 ReferenceTable.java - 全シャードへ複製するテーブル
+// パス: src/main/java/com/taskflow/global/shard/ReferenceTable.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * チームのデータから参照されるため全シャードに複製するテーブル（正本は既定シャード）
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ReferenceTable {
+    USERS("users"),
+    TEAMS("teams");
+
+    private final String tableName;
+}
+
+
+// ==========================================
+// 🗺️ TeamShard.java - チームの配置先
+// パス: src/main/java/com/taskflow/global/shard/TeamShard.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * チームの配置先シャード（既定シャードのみに保持）
+ * ShardContextに関係なく既定シャードを参照する必要があるため、読み書きはShardDirectoryがJDBCで行う
+ * 行が無いチームはシャーディング導入前に作成されたもので、既定シャードにある
+ */
+@Entity
+@Table(name = "team_shards")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeamShard {
+
+    @Id
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(nullable = false, length = 64)
+    private String shard;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private ShardDirectory.State state;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
+
+
+// ==========================================
+// 📇 ShardDirectory.java - チーム→シャードの対応表
+// パス: src/main/java/com/taskflow/global/shard/ShardDirectory.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * team_shards の参照・更新（既定シャードのプールへ直接接続）
+ * 参照はリクエスト毎に発生するため、cacheTtlの間はノード内でキャッシュする
+ */
+public class ShardDirectory {
+
+    public enum State { ACTIVE, MOVING }
+
+    private static final int MAX_CACHED_TEAMS = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String defaultShard;
+    private final List<String> placementShards;
+    private final long cacheTtlMillis;
+    private final Map<Long, Placement> cache = new ConcurrentHashMap<>();
+
+    public ShardDirectory(JdbcTemplate jdbcTemplate, String defaultShard,
+                          List<String> placementShards, long cacheTtlMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.defaultShard = defaultShard;
+        this.placementShards = List.copyOf(placementShards);
+        this.cacheTtlMillis = cacheTtlMillis;
+    }
+
+    public Placement find(Long teamId) {
+        Placement cached = cache.get(teamId);
+        if (cached != null && System.currentTimeMillis() - cached.getLoadedAt() < cacheTtlMillis) {
+            return cached;
+        }
+        if (cache.size() >= MAX_CACHED_TEAMS) {
+            cache.clear();
+        }
+        Placement placement = load(teamId);
+        cache.put(teamId, placement);
+        return placement;
+    }
+
+    /**
+     * キャッシュを使わずに取得（移行ツール用）
+     */
+    public Placement load(Long teamId) {
+        List<Placement> rows = jdbcTemplate.query(
+                "SELECT shard, state FROM team_shards WHERE team_id = ?",
+                (rs, rowNum) -> new Placement(rs.getString("shard"), State.valueOf(rs.getString("state")),
+                        System.currentTimeMillis()),
+                teamId);
+        return rows.isEmpty()
+                ? new Placement(defaultShard, State.ACTIVE, System.currentTimeMillis())
+                : rows.get(0);
+    }
+
+    /**
+     * 新規チームの配置先を登録（登録済みの場合は既存の配置を返す）
+     */
+    public String assign(Long teamId) {
+        String shard = placementShards.get(Math.floorMod(teamId, placementShards.size()));
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO team_shards (team_id, shard, state, updated_at) VALUES (?, ?, 'ACTIVE', ?)",
+                teamId, shard, LocalDateTime.now());
+        cache.remove(teamId);
+        return find(teamId).getShard();
+    }
+
+    public void markMoving(Long teamId, String shard) {
+        save(teamId, shard, State.MOVING);
+    }
+
+    public void markActive(Long teamId, String shard) {
+        save(teamId, shard, State.ACTIVE);
+    }
+
+    public void remove(Long teamId) {
+        jdbcTemplate.update("DELETE FROM team_shards WHERE team_id = ?", teamId);
+        cache.remove(teamId);
+    }
+
+    private void save(Long teamId, String shard, State state) {
+        jdbcTemplate.update(
+                "INSERT INTO team_shards (team_id, shard, state, updated_at) VALUES (?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE shard = VALUES(shard), state = VALUES(state), updated_at = VALUES(updated_at)",
+                teamId, shard, state.name(), LocalDateTime.now());
+        cache.remove(teamId);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Placement {
+        private final String shard;
+        private final State state;
+        private final long loadedAt;
+    }
+}
+
+
+// ==========================================
+// 📋 ShardRowCopier.java - シャード間の行コピー
+// パス: src/main/java/com/taskflow/global/shard/ShardRowCopier.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * シャード間の行コピー・削除（JDBC）
+ * 各シャードのプールへ直接接続するため、ShardContextや実行中のトランザクションの影響を受けない
+ * コピーはid順のチャンク単位のUPSERTで、途中で失敗しても同じ条件で再実行できる
+ */
+public class ShardRowCopier {
+
+    private final Map<String, JdbcTemplate> templates;
+    private final int chunkSize;
+
+    public ShardRowCopier(Map<String, JdbcTemplate> templates, int chunkSize) {
+        this.templates = Map.copyOf(templates);
+        this.chunkSize = chunkSize;
+    }
+
+    public JdbcTemplate on(String shard) {
+        JdbcTemplate template = templates.get(shard);
+        if (template == null) {
+            throw new IllegalArgumentException("未定義のシャードです: " + shard);
+        }
+        return template;
+    }
+
+    /**
+     * @return コピーした行数
+     */
+    public long copy(String source, String target, String table, String where, Object... args) {
+        return copy(source, target, table, List.of("id"), where, args);
+    }
+
+    /**
+     * 主キーがidでないテーブル用（keyColumnsの順のキーセットで分割。全て数値の列であること）
+     */
+    public long copy(String source, String target, String table, List<String> keyColumns,
+                     String where, Object... args) {
+        String keys = String.join(", ", keyColumns);
+        String sql = "SELECT * FROM " + table + " WHERE " + where +
+                " AND (" + keys + ") > (" + String.join(", ", Collections.nCopies(keyColumns.size(), "?")) + ")" +
+                " ORDER BY " + keys + " LIMIT " + chunkSize;
+        Object[] params = new Object[args.length + keyColumns.size()];
+        System.arraycopy(args, 0, params, 0, args.length);
+        Arrays.fill(params, args.length, params.length, 0L);
+
+        long copied = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = on(source).queryForList(sql, params);
+            upsert(on(target), table, rows);
+            copied += rows.size();
+            if (!rows.isEmpty()) {
+                Map<String, Object> last = rows.get(rows.size() - 1);
+                for (int i = 0; i < keyColumns.size(); i++) {
+                    params[args.length + i] = ((Number) last.get(keyColumns.get(i))).longValue();
+                }
+            }
+        } while (rows.size() == chunkSize);
+        return copied;
+    }
+
+    public long copyByIds(String source, String target, String table, Collection<Long> ids) {
+        List<Long> sorted = new ArrayList<>(ids);
+        Collections.sort(sorted);
+
+        long copied = 0;
+        for (int from = 0; from < sorted.size(); from += chunkSize) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            List<Map<String, Object>> rows = on(source).queryForList(
+                    "SELECT * FROM " + table + " WHERE id IN (" + placeholders + ")", chunk.toArray());
+            upsert(on(target), table, rows);
+            copied += rows.size();
+        }
+        return copied;
+    }
+
+    /**
+     * @return 削除した行数
+     */
+    public long delete(String shard, String table, String where, Object... args) {
+        String sql = "DELETE FROM " + table + " WHERE " + where + " LIMIT " + chunkSize;
+        long deleted = 0;
+        int count;
+        do {
+            count = on(shard).update(sql, args);
+            deleted += count;
+        } while (count == chunkSize);
+        return deleted;
+    }
+
+    private void upsert(JdbcTemplate target, String table, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") " +
+                "VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ") " +
+                "ON DUPLICATE KEY UPDATE " + columns.stream()
+                        .map(column -> column + " = VALUES(" + column + ")")
+                        .collect(Collectors.joining(", "));
+
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            batch.add(columns.stream().map(row::get).toArray());
+        }
+        target.batchUpdate(sql, batch);
+    }
+}
+
+
+// ==========================================
+// 🔀 ShardRoutingDataSource.java - シャード振り分け
+// パス: src/main/java/com/taskflow/global/shard/ShardRoutingDataSource.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardContextのシャードへ接続する（未設定時は既定シャード）
+ *
+ * 接続取得時点でShardContextが確定している必要があるため、
+ * 必ず LazyConnectionDataSourceProxy で包んで使用すること
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final String defaultShard;
+
+    public ShardRoutingDataSource(String defaultShard) {
+        this.defaultShard = defaultShard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : defaultShard;
+    }
+}
+
+
+// ==========================================
+// 🚦 ShardRouter.java - シャードの解決と複数シャードへの照会
+// パス: src/main/java/com/taskflow/global/shard/ShardRouter.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * サービス層から使用するシャーディングの窓口
+ *
+ * シャーディング無効時は全ての処理を現在のスレッド・トランザクションでそのまま実行するため、
+ * 呼び出し側は有効/無効を意識しなくてよい
+ */
+@Slf4j
+public class ShardRouter implements DisposableBean {
+
+    private static final int MAX_CACHED_TASKS = 10_000;
+
+    private static final String TASK_TEAM_SQL =
+            "SELECT team_id FROM tasks WHERE id = ? UNION ALL SELECT team_id FROM archived_tasks WHERE id = ?";
+
+    private final String defaultShard;
+    private final List<String> shards;
+    private final ShardDirectory directory;
+    private final ShardRowCopier copier;
+    private final ExecutorService executor;
+    private final Duration scatterTimeout;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate newTransaction;
+
+    // タスクは所属チームを変更できないため、一度解決した結果は移行後も有効
+    private final Map<Long, Long> taskTeams = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    return size() > MAX_CACHED_TASKS;
+                }
+            });
+
+    /**
+     * @param directory シャーディング無効時はnull
+     * @param copier    シャーディング無効時はnull
+     */
+    public ShardRouter(ShardingProperties properties, ShardDirectory directory, ShardRowCopier copier,
+                       PlatformTransactionManager transactionManager) {
+        this.defaultShard = properties.getDefaultShard();
+        this.directory = directory;
+        this.copier = copier;
+        this.scatterTimeout = properties.getScatterTimeout();
+
+        if (directory != null) {
+            this.shards = List.copyOf(properties.getShards().keySet());
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(properties.getScatterThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "shard-scatter-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.shards = List.of(defaultShard);
+            this.executor = null;
+        }
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    public String shardOfTeam(Long teamId) {
+        return isEnabled() ? directory.find(teamId).getShard() : defaultShard;
+    }
+
+    /**
+     * 移行中のチームへの書き込みを拒否する
+     */
+    public void checkWritable(Long teamId) {
+        if (isEnabled() && directory.find(teamId).getState() == ShardDirectory.State.MOVING) {
+            throw new BusinessException(ErrorCode.TEAM_SHARD_MIGRATING);
+        }
+    }
+
+    /**
+     * タスク（アーカイブ済みを含む）の所属チーム
+     */
+    public Optional<Long> teamOfTask(Long taskId) {
+        Long cached = taskTeams.get(taskId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Long> teamId = onEachShard(shard ->
+                copier.on(shard).queryForList(TASK_TEAM_SQL, Long.class, taskId, taskId)).stream()
+                .flatMap(List::stream)
+                .findFirst();
+        teamId.ifPresent(id -> taskTeams.put(taskId, id));
+        return teamId;
+    }
+
+    /**
+     * 指定シャードで実行（トランザクション開始前に呼ぶこと）
+     */
+    public <T> T callOn(String shard, Supplier<T> action) {
+        if (!isEnabled()) {
+            return action.get();
+        }
+        String previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    public void runOn(String shard, Runnable action) {
+        callOn(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 現在と同じシャードなら実行中のトランザクションに参加し、異なるシャードなら別トランザクションで実行する
+     * 別シャードの場合は先にコミットされるため、呼び出し元のロールバックでは取り消されない
+     */
+    public <T> T callInTransactionOn(String shard, Supplier<T> action) {
+        String current = ShardContext.current() != null ? ShardContext.current() : defaultShard;
+        if (!isEnabled() || shard.equals(current)) {
+            return action.get();
+        }
+        return callOn(shard, () -> newTransaction.execute(status -> action.get()));
+    }
+
+    /**
+     * 全シャードで同じ照会を並列に実行（シャード毎に読み取り専用トランザクション）
+     * @return シャード順の結果
+     */
+    public <T> List<T> scatter(Supplier<T> query) {
+        if (!isEnabled()) {
+            return Collections.singletonList(query.get());
+        }
+        return onEachShard(shard -> callOn(shard, () -> readOnlyTransaction.execute(status -> query.get())));
+    }
+
+    /**
+     * 全シャードの結果を結合
+     * チーム移行中は移行元・移行先の両方に同じ行があるため、identityで重複を除く
+     */
+    public <T> List<T> gather(Supplier<? extends Collection<T>> query, Function<? super T, ?> identity) {
+        if (!isEnabled()) {
+            return new ArrayList<>(query.get());
+        }
+        List<T> merged = new ArrayList<>();
+        Set<Object> seen = new HashSet<>();
+        for (Collection<T> part : scatter(query)) {
+            for (T item : part) {
+                if (seen.add(identity.apply(item))) {
+                    merged.add(item);
+                }
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 全シャードの結果を結合（集計値のように重複の無い結果用）
+     */
+    public <T> List<T> gather(Supplier<? extends Collection<T>> query) {
+        List<T> merged = new ArrayList<>();
+        scatter(query).forEach(merged::addAll);
+        return merged;
+    }
+
+    /**
+     * 新規チームの配置を決め、チームのシャードへの初期データ書き込みを行う
+     * 無効時は現在のトランザクション内で実行する。
+     * 有効時は配置をコミット前に登録し（失敗時はチーム作成ごと失敗、ロールバック時は配置を削除）、
+     * コミット後にチーム行を全シャードへ複製して、チームのシャードの新しいトランザクションで書き込む。
+     * コミット後の処理が失敗した場合は、TEAM_CREATED イベントの配信時に TeamShardInitializer が再実行する
+     */
+    public void initializeTeam(Long teamId, Runnable writeOnTeamShard) {
+        if (!isEnabled()) {
+            writeOnTeamShard.run();
+            return;
+        }
+        String shard = directory.assign(teamId);
+        afterRollback(() -> directory.remove(teamId));
+        afterCommit(() -> {
+            try {
+                replicate(ReferenceTable.TEAMS, teamId);
+                runOn(shard, () -> newTransaction.executeWithoutResult(status -> writeOnTeamShard.run()));
+                log.info("チーム配置: teamId={}, shard={}", teamId, shard);
+            } catch (RuntimeException e) {
+                log.error("チームのシャード初期化失敗（TEAM_CREATEDイベントの配信で再実行します。" +
+                        "手動では migrate.initialize-team-id を指定）: teamId={}, shard={}", teamId, shard, e);
+            }
+        });
+    }
+
+    /**
+     * コミット後に既定シャードの行を他のシャードへ複製
+     */
+    public void replicateAfterCommit(ReferenceTable table, Long id) {
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                replicate(table, id);
+            } catch (RuntimeException e) {
+                log.error("参照データの複製失敗（sync-referencesで再同期してください）: table={}, id={}",
+                        table.getTableName(), id, e);
+            }
+        });
+    }
+
+    /**
+     * コミット後に他のシャードのチーム行と配置を削除（チームのデータ削除後に呼ぶこと）
+     */
+    public void removeTeamAfterCommit(Long teamId) {
+        if (!isEnabled()) {
+            return;
+        }
+        afterCommit(() -> {
+            for (String shard : shards) {
+                if (!shard.equals(defaultShard)) {
+                    copier.on(shard).update("DELETE FROM teams WHERE id = ?", teamId);
+                }
+            }
+            directory.remove(teamId);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void replicate(ReferenceTable table, Long id) {
+        for (String shard : shards) {
+            if (!shard.equals(defaultShard)) {
+                copier.copy(defaultShard, shard, table.getTableName(), "id = ?", id);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private <T> List<T> onEachShard(Function<String, T> action) {
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (String shard : shards) {
+            futures.add(executor.submit(() -> action.apply(shard)));
+        }
+
+        long deadline = System.nanoTime() + scatterTimeout.toNanos();
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (TimeoutException e) {
+            log.warn("シャード照会タイムアウト: timeout={}", scatterTimeout);
+            throw new BusinessException(ErrorCode.SHARD_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SHARD_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException) {
+                log.warn("シャード接続失敗: {}", cause.getMessage());
+                throw new BusinessException(ErrorCode.SHARD_UNAVAILABLE);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+}
+
+
+// ==========================================
+// 🎯 ShardRoutingInterceptor.java - @ShardKeyメソッドのシャード固定
+// パス: src/main/java/com/taskflow/global/shard/ShardRoutingInterceptor.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ShardKey 引数を持つメソッドを、そのチームのシャードで実行する
+ *
+ * トランザクションより外側で動作し、接続取得前にシャードを決定する。
+ * 読み取り専用トランザクション以外のメソッドは、移行中のチームに対して拒否する
+ */
+public class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private static final int NO_KEY = -1;
+
+    private final ShardRouter shardRouter;
+    private final TransactionAttributeSource transactionAttributeSource = new AnnotationTransactionAttributeSource();
+    private final Map<Method, Integer> keyIndexes = new ConcurrentHashMap<>();
+
+    public ShardRoutingInterceptor(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    public static boolean hasShardKey(Method method) {
+        return findKeyIndex(method) != NO_KEY;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        int index = keyIndexes.computeIfAbsent(method, ShardRoutingInterceptor::findKeyIndex);
+        if (index == NO_KEY) {
+            return invocation.proceed();
+        }
+
+        ShardKey key = findShardKey(method.getParameterAnnotations()[index]);
+        Long id = resolveId(key, invocation.getArguments()[index]);
+        Long teamId = id != null && key.type() == ShardKey.Type.TASK
+                ? shardRouter.teamOfTask(id).orElse(null)
+                : id;
+        // 存在しないタスク等は既定シャードで実行し、通常通りNOT_FOUNDとする
+        if (teamId == null) {
+            return invocation.proceed();
+        }
+
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        if (!isReadOnly(method, targetClass)) {
+            shardRouter.checkWritable(teamId);
+        }
+
+        String shard = shardRouter.shardOfTeam(teamId);
+        String previous = ShardContext.current();
+        String current = previous != null ? previous : shardRouter.getDefaultShard();
+        if (!current.equals(shard) && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("シャードをまたぐトランザクションは実行できません: " + current + " -> " + shard);
+        }
+
+        ShardContext.set(shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    private boolean isReadOnly(Method method, Class<?> targetClass) {
+        TransactionAttribute attribute = transactionAttributeSource.getTransactionAttribute(method, targetClass);
+        return attribute != null && attribute.isReadOnly();
+    }
+
+    private static Long resolveId(ShardKey key, Object argument) {
+        Object value = key.value().isEmpty() || argument == null
+                ? argument
+                : new BeanWrapperImpl(argument).getPropertyValue(key.value());
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static int findKeyIndex(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            if (findShardKey(annotations[i]) != null) {
+                return i;
+            }
+        }
+        return NO_KEY;
+    }
+
+    private static ShardKey findShardKey(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof ShardKey shardKey) {
+                return shardKey;
+            }
+        }
+        return null;
+    }
+}
+
+
+// ==========================================
+// 🚚 TeamShardMigrator.java - チームのシャード間移行
+// パス: src/main/java/com/taskflow/global/shard/TeamShardMigrator.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * チームのデータを別シャードへ移す
+ *
+ * 1. MOVING にしてキャッシュ有効期間だけ待つ（全ノードが書き込みを拒否する）
+ * 2. 参照先ユーザー・チーム行とチームのデータを移行先へコピーし、担当者別タスク数を付け替える
+ * 3. 移行先で ACTIVE にし、再度キャッシュ有効期間だけ待つ（移行元を読むノードが無くなる）
+ * 4. 移行元のデータを削除する
+ * 途中で失敗した場合は移行元で ACTIVE に戻し、移行先のコピーを削除する（再実行可能）
+ *
+ * 新規チームのシャード初期化（initializeTeam）の再実行もここで行う
+ */
+@Slf4j
+public class TeamShardMigrator {
+
+    // コピーは親テーブルから、削除は子テーブルから行う
+    private static final List<String> TEAM_TABLES = List.of(
+            "team_members", "tasks", "archived_tasks", "task_status_transitions", "team_daily_stats",
+            "task_dependencies", "task_dependency_versions", "task_closures");
+
+    // 主キーがidでないテーブルのキーセット
+    private static final Map<String, List<String>> KEY_COLUMNS = Map.of(
+            "task_dependency_versions", List.of("team_id"),
+            "task_closures", List.of("ancestor_id", "descendant_id"));
+
+    // 作成者をリーダーとして追加（追加済みなら何もしない）
+    private static final String LEADER_INSERT =
+            "INSERT INTO team_members (team_id, user_id, role, created_at, updated_at) " +
+            "SELECT t.id, t.created_by, 'LEADER', ?, ? FROM teams t " +
+            "WHERE t.id = ? AND NOT EXISTS (SELECT 1 FROM team_members m WHERE m.team_id = t.id AND m.user_id = t.created_by)";
+
+    private static final String WORKLOAD_UPSERT =
+            "INSERT INTO user_workloads (user_id, status, priority, task_count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE task_count = task_count + VALUES(task_count)";
+
+    private final ShardDirectory directory;
+    private final ShardRowCopier copier;
+    private final String defaultShard;
+    private final Set<String> shards;
+    private final Duration cacheTtl;
+
+    public TeamShardMigrator(ShardDirectory directory, ShardRowCopier copier, ShardingProperties properties) {
+        this.directory = directory;
+        this.copier = copier;
+        this.defaultShard = properties.getDefaultShard();
+        this.shards = Set.copyOf(properties.getShards().keySet());
+        this.cacheTtl = properties.getDirectoryCacheTtl();
+    }
+
+    public void migrate(Long teamId, String target) {
+        if (!shards.contains(target)) {
+            throw new IllegalArgumentException("未定義のシャードです: " + target);
+        }
+        String source = directory.load(teamId).getShard();
+        if (source.equals(target)) {
+            log.info("チーム移行不要: teamId={}, shard={}", teamId, target);
+            return;
+        }
+
+        log.info("チーム移行開始: teamId={}, source={}, target={}", teamId, source, target);
+        directory.markMoving(teamId, source);
+        try {
+            awaitCacheExpiry();
+            copyReferences(source, target, teamId);
+            for (String table : TEAM_TABLES) {
+                long rows = copier.copy(source, target, table,
+                        KEY_COLUMNS.getOrDefault(table, List.of("id")), "team_id = ?", teamId);
+                log.info("チーム移行コピー: teamId={}, table={}, rows={}", teamId, table, rows);
+            }
+            moveWorkloads(source, target, teamId);
+            directory.markActive(teamId, target);
+        } catch (RuntimeException e) {
+            log.error("チーム移行失敗（移行元に戻します）: teamId={}", teamId, e);
+            deleteTeamRows(target, teamId);
+            directory.markActive(teamId, source);
+            throw e;
+        }
+
+        awaitCacheExpiry();
+        deleteTeamRows(source, teamId);
+        log.info("チーム移行完了: teamId={}, source={}, target={}", teamId, source, target);
+    }
+
+    /**
+     * 新規チームの配置・チーム行の複製・リーダーの追加を行う（何度実行しても同じ結果になる）
+     * 作成直後のコミット後処理が失敗したチームの修復用。削除済みのチームは何もしない
+     */
+    public void initializeTeam(Long teamId) {
+        List<Long> leaders = copier.on(defaultShard).queryForList(
+                "SELECT created_by FROM teams WHERE id = ? AND deleted = false", Long.class, teamId);
+        if (leaders.isEmpty()) {
+            log.info("チーム初期化不要（存在しないか削除済み）: teamId={}", teamId);
+            return;
+        }
+
+        String shard = directory.assign(teamId);
+        for (String target : shards) {
+            if (!target.equals(defaultShard)) {
+                copier.copy(defaultShard, target, ReferenceTable.TEAMS.getTableName(), "id = ?", teamId);
+            }
+        }
+        if (!shard.equals(defaultShard)) {
+            copier.copyByIds(defaultShard, shard, ReferenceTable.USERS.getTableName(), leaders);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int added = copier.on(shard).update(LEADER_INSERT, now, now, teamId);
+        log.info("チーム初期化: teamId={}, shard={}, leaderAdded={}", teamId, shard, added > 0);
+    }
+
+    /**
+     * users・teams を既定シャードから全シャードへ複製
+     */
+    public void syncReferences() {
+        for (String shard : shards) {
+            if (shard.equals(defaultShard)) {
+                continue;
+            }
+            for (ReferenceTable table : ReferenceTable.values()) {
+                long rows = copier.copy(defaultShard, shard, table.getTableName(), "1 = 1");
+                log.info("参照データ同期: shard={}, table={}, rows={}", shard, table.getTableName(), rows);
+            }
+        }
+    }
+
+    private void copyReferences(String source, String target, Long teamId) {
+        copier.copy(defaultShard, target, ReferenceTable.TEAMS.getTableName(), "id = ?", teamId);
+
+        Set<Long> userIds = new HashSet<>(copier.on(source).queryForList(
+                "SELECT user_id FROM team_members WHERE team_id = ? " +
+                "UNION SELECT created_by FROM tasks WHERE team_id = ? " +
+                "UNION SELECT assignee_id FROM tasks WHERE team_id = ? AND assignee_id IS NOT NULL " +
+                "UNION SELECT created_by FROM archived_tasks WHERE team_id = ? " +
+                "UNION SELECT assignee_id FROM archived_tasks WHERE team_id = ? AND assignee_id IS NOT NULL",
+                Long.class, teamId, teamId, teamId, teamId, teamId));
+        copier.copyByIds(defaultShard, target, ReferenceTable.USERS.getTableName(), userIds);
+    }
+
+    // 未完了タスクの件数を移行元から減らし、移行先へ加える
+    private void moveWorkloads(String source, String target, Long teamId) {
+        List<Map<String, Object>> deltas = copier.on(source).queryForList(
+                "SELECT assignee_id, status, priority, COUNT(*) AS task_count FROM tasks " +
+                "WHERE team_id = ? AND assignee_id IS NOT NULL AND status <> 'DONE' " +
+                "GROUP BY assignee_id, status, priority",
+                teamId);
+
+        for (Map<String, Object> delta : deltas) {
+            long count = ((Number) delta.get("task_count")).longValue();
+            copier.on(target).update(WORKLOAD_UPSERT,
+                    delta.get("assignee_id"), delta.get("status"), delta.get("priority"), count);
+            copier.on(source).update(WORKLOAD_UPSERT,
+                    delta.get("assignee_id"), delta.get("status"), delta.get("priority"), -count);
+        }
+    }
+
+    private void deleteTeamRows(String shard, Long teamId) {
+        for (int i = TEAM_TABLES.size() - 1; i >= 0; i--) {
+            copier.delete(shard, TEAM_TABLES.get(i), "team_id = ?", teamId);
+        }
+    }
+
+    private void awaitCacheExpiry() {
+        try {
+            Thread.sleep(cacheTtl.toMillis() + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("チーム移行が中断されました", e);
+        }
+    }
+}
+
+
+// ==========================================
+// 🧩 TeamShardInitializer.java - 新規チームのシャード初期化の再実行
+// パス: src/main/java/com/taskflow/global/shard/TeamShardInitializer.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import com.taskflow.global.outbox.OutboxEventType;
+import com.taskflow.global.outbox.OutboxMessage;
+import com.taskflow.global.outbox.OutboxSubscriber;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TEAM_CREATED の配信時にチームのシャード初期化を再実行する
+ *
+ * 作成時のコミット後処理（ShardRouter.initializeTeam）が失敗しても、
+ * イベントと同じトランザクションでコミットされたチーム行から修復される。
+ * 成功済みの場合は何も変更しない。失敗時はアウトボックスの再試行間隔で繰り返す
+ */
+@RequiredArgsConstructor
+public class TeamShardInitializer implements OutboxSubscriber {
+
+    private final TeamShardMigrator migrator;
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.TEAM_CREATED;
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        migrator.initializeTeam(message.getAggregateId());
+    }
+}
+
+
+// ==========================================
+// 🏃 ShardMigrationRunner.java - 移行ツールの起動
+// パス: src/main/java/com/taskflow/global/shard/ShardMigrationRunner.java
+// ==========================================
+
+package com.taskflow.global.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * taskflow.datasource.sharding.migrate.* 指定時に移行を実行して終了する
+ *
+ * <pre>
+ * java -jar taskflow.jar --spring.main.web-application-type=none \
+ *      --taskflow.datasource.sharding.migrate.sync-references=true \
+ *      --taskflow.datasource.sharding.migrate.team-id=42 \
+ *      --taskflow.datasource.sharding.migrate.target=shard-1
+ * </pre>
+ * 「チームのシャード初期化失敗」のログが出たチームは
+ * --taskflow.datasource.sharding.migrate.initialize-team-id=42 で修復する
+ * （通常は TEAM_CREATED イベントの配信時に自動で再実行される）
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardMigrationRunner implements ApplicationRunner {
+
+    private final ShardingProperties properties;
+    private final TeamShardMigrator migrator;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ShardingProperties.Migrate migrate = properties.getMigrate();
+        if (!migrate.isSyncReferences() && migrate.getTeamId() == null && migrate.getInitializeTeamId() == null) {
+            return;
+        }
+
+        int exitCode = 0;
+        try {
+            if (migrate.isSyncReferences()) {
+                migrator.syncReferences();
+            }
+            if (migrate.getInitializeTeamId() != null) {
+                migrator.initializeTeam(migrate.getInitializeTeamId());
+            }
+            if (migrate.getTeamId() != null) {
+                migrator.migrate(migrate.getTeamId(), migrate.getTarget());
+            }
+        } catch (RuntimeException e) {
+            log.error("シャード移行ツール失敗", e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
+
+
+// ==========================================
+// 🔧 ShardingConfig.java - シャーディング設定
+// パス: src/main/java/com/taskflow/global/config/ShardingConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.taskflow.global.shard.ShardDirectory;
+import com.taskflow.global.shard.ShardRouter;
+import com.taskflow.global.shard.ShardRowCopier;
+import com.taskflow.global.shard.ShardingProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * ShardRouterは常に登録し、シャーディング無効時は単一データベースとして動作させる
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties,
+                                   ObjectProvider<ShardDirectory> shardDirectory,
+                                   ObjectProvider<ShardRowCopier> shardRowCopier,
+                                   PlatformTransactionManager transactionManager) {
+        return new ShardRouter(properties, shardDirectory.getIfAvailable(),
+                shardRowCopier.getIfAvailable(), transactionManager);
+    }
+}
+
+
+// ==========================================
+// 🔧 ShardingDataSourceConfig.java - シャードデータソース設定
+// パス: src/main/java/com/taskflow/global/config/ShardingDataSourceConfig.java
+// ==========================================
+
+package com.taskflow.global.config;
+
+import com.taskflow.global.datasource.ReplicationDataSourceProperties;
+import com.taskflow.global.shard.ShardDirectory;
+import com.taskflow.global.shard.ShardMigrationRunner;
+import com.taskflow.global.shard.ShardRouter;
+import com.taskflow.global.shard.ShardRoutingDataSource;
+import com.taskflow.global.shard.ShardRoutingInterceptor;
+import com.taskflow.global.shard.ShardRowCopier;
+import com.taskflow.global.shard.ShardingProperties;
+import com.taskflow.global.shard.TeamShardInitializer;
+import com.taskflow.global.shard.TeamShardMigrator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.flywaydb.core.Flyway;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * チーム単位のシャード振り分けデータソース設定
+ * taskflow.datasource.sharding.enabled=true の時のみ有効（レプリケーションとは併用不可）
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskflow.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+    private final ShardingProperties properties;
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+
+    public ShardingDataSourceConfig(ShardingProperties properties, Environment environment) {
+        if (environment.getProperty("taskflow.datasource.replication.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("シャーディングとレプリケーションは同時に有効化できません");
+        }
+        if (!properties.getShards().containsKey(properties.getDefaultShard())) {
+            throw new IllegalStateException("既定シャードが定義されていません: " + properties.getDefaultShard());
+        }
+        this.properties = properties;
+        properties.getShards().forEach((name, node) -> pools.put(name, createPool(name, node)));
+    }
+
+    /**
+     * JPAが使用するデータソース
+     * LazyConnectionDataSourceProxyで包み、ShardContext確定後に接続先を決定する
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource() {
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(properties.getDefaultShard());
+        routing.setTargetDataSources(new HashMap<>(pools));
+        routing.setDefaultTargetDataSource(pools.get(properties.getDefaultShard()));
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 全シャードへマイグレーションを適用する
+     * 自動構成のFlywayは既定シャードにしか接続しないため、同じ設定でシャード毎に実行する
+     */
+    @Bean
+    public FlywayMigrationStrategy shardFlywayMigrationStrategy() {
+        return flyway -> pools.forEach((name, pool) -> Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(pool)
+                .load()
+                .migrate());
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory() {
+        List<String> placement = properties.getPlacementShards().isEmpty()
+                ? new ArrayList<>(pools.keySet())
+                : properties.getPlacementShards();
+        return new ShardDirectory(new JdbcTemplate(pools.get(properties.getDefaultShard())),
+                properties.getDefaultShard(), placement, properties.getDirectoryCacheTtl().toMillis());
+    }
+
+    @Bean
+    public ShardRowCopier shardRowCopier() {
+        Map<String, JdbcTemplate> templates = new HashMap<>();
+        pools.forEach((name, pool) -> templates.put(name, new JdbcTemplate(pool)));
+        return new ShardRowCopier(templates, properties.getCopyChunkSize());
+    }
+
+    /**
+     * @ShardKey 引数を持つメソッドをトランザクションより先に処理する
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor shardRoutingAdvisor(@Lazy ShardRouter shardRouter) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return ShardRoutingInterceptor.hasShardKey(AopUtils.getMostSpecificMethod(method, targetClass));
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new ShardRoutingInterceptor(shardRouter));
+        // 同時読み取りの集約（CoalescingConfig）の内側、トランザクションの外側
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    @Bean
+    public TeamShardMigrator teamShardMigrator(ShardDirectory shardDirectory, ShardRowCopier shardRowCopier) {
+        return new TeamShardMigrator(shardDirectory, shardRowCopier, properties);
+    }
+
+    @Bean
+    public TeamShardInitializer teamShardInitializer(TeamShardMigrator teamShardMigrator) {
+        return new TeamShardInitializer(teamShardMigrator);
+    }
+
+    @Bean
+    public ShardMigrationRunner shardMigrationRunner(TeamShardMigrator teamShardMigrator,
+                                                     ConfigurableApplicationContext context) {
+        return new ShardMigrationRunner(properties, teamShardMigrator, context);
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource createPool(String poolName, ReplicationDataSourceProperties.Node node) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(poolName);
+        pool.setJdbcUrl(node.getUrl());
+        pool.setUsername(node.getUsername());
+        pool.setPassword(node.getPassword());
+        if (node.getDriverClassName() != null) {
+            pool.setDriverClassName(node.getDriverClassName());
+        }
+        pool.setMaximumPoolSize(node.getMaximumPoolSize());
+        return pool;
+    }
+}
@@ -8,12 +8,18 @@ package com.taskflow.domain.user.entity;
 import com.taskflow.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  * ユーザー情報を保存するエンティティ
+ * 参照頻度が高いため2次キャッシュ対象（region: user）
  */
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -34,6 +40,7 @@ public class User extends BaseEntity {
     private String name;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private UserRole role;
 
@@ -255,6 +262,8 @@ import com.taskflow.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -273,6 +282,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * メールアドレス重複確認
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 指定IDのうち存在するユーザー数（存在確認を1回のCOUNTで行う）
+     */
+    long countByIdIn(Collection<Long> ids);
+
+    /**
+     * メールアドレスでまとめて検索（CSVインポートの担当者解決用）
+     */
+    List<User> findByEmailIn(Collection<String> emails);
 }
 
 
@@ -292,12 +311,23 @@ import com.taskflow.domain.user.repository.UserRepository;
 import com.taskflow.global.exception.BusinessException;
 import com.taskflow.global.exception.ErrorCode;
 import com.taskflow.global.security.JwtTokenProvider;
+import com.taskflow.global.shard.ReferenceTable;
+import com.taskflow.global.shard.ShardRouter;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * ユーザー関連ビジネスロジック
  */
@@ -310,6 +340,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final EntityManager entityManager;
+    private final ShardRouter shardRouter;
 
     /**
      * 会員登録
@@ -329,6 +361,8 @@ public class UserService {
         // ユーザー作成と保存
         User user = request.toEntity(encodedPassword);
         User savedUser = userRepository.save(user);
+        // チームのデータから参照されるため、全シャードへ複製
+        shardRouter.replicateAfterCommit(ReferenceTable.USERS, savedUser.getId());
 
         log.info("会員登録成功: userId={}", savedUser.getId());
         return UserResponse.from(savedUser);
@@ -382,6 +416,41 @@ public class UserService {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
+
+    /**
+     * SELECTせずにUserの参照（プロキシ）を取得（内部使用）
+     * 外部キーの設定のみに使用し、存在はverifyUsersExistまたはFK制約で保証する
+     */
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * ユーザーの存在確認（内部使用）
+     * 2次キャッシュに載っているIDは確認済みとみなし、残りのみ1回のCOUNTで確認する
+     */
+    public void verifyUsersExist(Collection<Long> userIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Set<Long> uncached = userIds.stream()
+                .filter(Objects::nonNull)
+                .filter(userId -> !cache.contains(User.class, userId))
+                .collect(Collectors.toSet());
+
+        if (!uncached.isEmpty() && userRepository.countByIdIn(uncached) != uncached.size()) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+    }
+
+    /**
+     * メールアドレス → ユーザーID の対応を1回のクエリで取得（内部使用）
+     * DBの照合順序に合わせて大文字・小文字を区別せず、キーは小文字のメールアドレスとする
+     * 存在しないメールアドレスは結果に含まれない
+     */
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        return userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(user -> user.getEmail().toLowerCase(Locale.ROOT), User::getId,
+                        Math::min));
+    }
 }
 
 
@@ -9,11 +9,20 @@ import com.taskflow.domain.user.entity.User;
 import com.taskflow.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // 索引の作成・変更はマイグレーション（V4__task_access_path_indexes.sql）で行う
+        @Index(name = "idx_tasks_team_created", columnList = "team_id, created_at"),
+        @Index(name = "idx_tasks_team_status", columnList = "team_id, status, priority, due_date"),
+        @Index(name = "idx_tasks_assignee_status", columnList = "assignee_id, status, priority"),
+        @Index(name = "idx_tasks_status_due", columnList = "status, due_date"),
+        @Index(name = "idx_tasks_status_updated", columnList = "status, updated_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -31,11 +40,13 @@ public class Task extends BaseEntity {
     private String description;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     @Builder.Default
     private TaskStatus status = TaskStatus.TODO;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     @Builder.Default
     private Priority priority = Priority.MEDIUM;
@@ -114,6 +125,331 @@ public enum Priority {
     private final int value;
 }
 
+// ==========================================
+// 🗄️ ArchivedTask.java
+// パス: backend/src/main/java/com/taskflow/domain/task/entity/ArchivedTask.java
+// ==========================================
+package com.taskflow.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 完了後一定期間が経過したタスクの保管先（tasksと同じIDを保持し、復元時もIDを維持）
+@Entity
+@Table(name = "archived_tasks",
+       indexes = @Index(name = "idx_archived_tasks_team", columnList = "team_id, archived_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private Priority priority;
+
+    private LocalDate dueDate;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdById;
+
+    private Long version;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
+
+// ==========================================
+// 🔀 TaskStatusTransition.java
+// パス: backend/src/main/java/com/taskflow/domain/task/entity/TaskStatusTransition.java
+// ==========================================
+package com.taskflow.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+// タスクの状態遷移履歴（タスク削除後も集計の根拠として残すため、IDのみ保持）
+@Entity
+@Table(name = "task_status_transitions", indexes = {
+        @Index(name = "idx_transitions_team", columnList = "team_id, changed_at"),
+        @Index(name = "idx_transitions_task", columnList = "task_id, changed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TaskStatusTransition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private TaskStatus toStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
+
+// ==========================================
+// 📊 TeamDailyStats.java
+// パス: backend/src/main/java/com/taskflow/domain/task/entity/TeamDailyStats.java
+// ==========================================
+package com.taskflow.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+// チーム別・日別の集計（作成/削除/状態変更の度に加算で更新）
+// 未完了数の推移は (created - completed + reopened - deleted) の累積で求める
+@Entity
+@Table(name = "team_daily_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_team_daily_stats", columnNames = {"team_id", "stat_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TeamDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private long createdCount;
+
+    @Column(nullable = false)
+    private long completedCount; // DONEへの遷移数
+
+    @Column(nullable = false)
+    private long reopenedCount; // DONEから他状態への遷移数
+
+    @Column(nullable = false)
+    private long deletedCount; // 未完了のまま削除された数
+
+    @Column(nullable = false)
+    private long cycleTimeSeconds; // 作成からDONEまでの秒数の合計
+
+    @Column(nullable = false)
+    private long cycleTimeCount;
+
+    public long getOpenDelta() {
+        return createdCount - completedCount + reopenedCount - deletedCount;
+    }
+}
+
+// ==========================================
+// 🏋️ UserWorkload.java
+// パス: backend/src/main/java/com/taskflow/domain/task/entity/UserWorkload.java
+// ==========================================
+package com.taskflow.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// 担当者別・状態別・優先度別の未完了タスク数（DONEは保持しない）
+// タスクの作成/更新/状態変更/削除と同じトランザクションで加算更新する
+@Entity
+@Table(name = "user_workloads",
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_workloads",
+               columnNames = {"user_id", "status", "priority"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserWorkload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Column(nullable = false)
+    private long taskCount;
+}
+
+// ==========================================
+// 🔗 TaskDependency.java
+// パス: backend/src/main/java/com/taskflow/domain/task/entity/TaskDependency.java
+// ==========================================
+package com.taskflow.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// タスク間の依存関係（blockerが完了するまでblockedを開始できない）。同じチーム内のタスクのみ
+// チーム単位でグラフを読み込むためteam_idを持ち、アーカイブ後も辿れるようIDのみ保持
+@Entity
+@Table(name = "task_dependencies",
+       uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies",
+               columnNames = {"blocker_task_id", "blocked_task_id"}),
+       indexes = {
+               @Index(name = "idx_task_dependencies_team", columnList = "team_id"),
+               @Index(name = "idx_task_dependencies_blocked", columnList = "blocked_task_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "blocker_task_id", nullable = false)
+    private Long blockerTaskId;
+
+    @Column(name = "blocked_task_id", nullable = false)
+    private Long blockedTaskId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
+
+// ==========================================
+// 🔢 TaskDependencyVersion.java
+// パス: backend/src/main/java/com/taskflow/domain/task/entity/TaskDependencyVersion.java
+// ==========================================
+package com.taskflow.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// チーム毎の依存グラフのバージョン（辺の追加・削除、辺を持つタスクの状態・期限変更の度に加算）
+// 行ロックで同じチームのグラフ変更を直列化し、各インスタンスのメモリ上のグラフの鮮度判定に使う
+@Entity
+@Table(name = "task_dependency_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskDependencyVersion {
+
+    @Id
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(nullable = false)
+    private long version;
+}
+
+// ==========================================
+// 🌳 TaskClosure.java
+// パス: backend/src/main/java/com/taskflow/domain/task/entity/TaskClosure.java
+// ==========================================
+package com.taskflow.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// サブタスク階層の閉包テーブル（祖先・子孫の全組み合わせと距離。自分自身はdepth = 0）
+// Taskに親への参照を持たせず、部分木・祖先・集計をそれぞれ1回の索引検索で求める
+// 階層に含まれたことのあるタスクのみ行を持ち、アーカイブ後も階層を維持するためIDのみ保持
+@Entity
+@Table(name = "task_closures", indexes = {
+        @Index(name = "idx_task_closures_descendant", columnList = "descendant_id, depth"),
+        @Index(name = "idx_task_closures_team", columnList = "team_id")
+})
+@IdClass(TaskClosure.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
+
 // ==========================================
 // 📝 TaskRequest.java
 // パス: backend/src/main/java/com/taskflow/domain/task/dto/request/TaskRequest.java
@@ -168,6 +504,158 @@ public class TaskRequest {
     }
 }
 
+// ==========================================
+// 🩹 TaskMergePatch.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/request/TaskMergePatch.java
+// ==========================================
+package com.taskflow.domain.task.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// JSON Merge Patch（RFC 7396）によるタスクの部分更新
+// 含まれる項目のみ変更し、nullは値の削除（title・priorityは削除不可）。状態は専用APIで変更する
+public class TaskMergePatch {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    public enum Field {
+        TITLE("title", "title", false),
+        DESCRIPTION("description", "description", true),
+        PRIORITY("priority", "priority", false),
+        DUE_DATE("dueDate", "dueDate", true),
+        ASSIGNEE_ID("assigneeId", "assignee", true);
+
+        private final String name;      // JSONのキー
+        private final String attribute; // 更新するTaskの属性
+        private final boolean nullable;
+
+        Field(String name, String attribute, boolean nullable) {
+            this.name = name;
+            this.attribute = attribute;
+            this.nullable = nullable;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        static Field fromName(String name) {
+            return Arrays.stream(values())
+                    .filter(field -> field.name.equals(name))
+                    .findFirst()
+                    .orElseThrow(TaskMergePatch::invalid);
+        }
+    }
+
+    private final Map<Field, Object> changes;
+
+    private TaskMergePatch(Map<Field, Object> changes) {
+        this.changes = Collections.unmodifiableMap(changes);
+    }
+
+    public static TaskMergePatch parse(JsonNode body) {
+        if (body == null || !body.isObject()) {
+            throw invalid();
+        }
+
+        Map<Field, Object> changes = new EnumMap<>(Field.class);
+        body.fields().forEachRemaining(entry -> {
+            Field field = Field.fromName(entry.getKey());
+            JsonNode value = entry.getValue();
+            if (value.isNull() && !field.nullable) {
+                throw invalid();
+            }
+            changes.put(field, value.isNull() ? null : parseValue(field, value));
+        });
+        return new TaskMergePatch(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public boolean contains(Field field) {
+        return changes.containsKey(field);
+    }
+
+    // 変更する項目と値（nullは値の削除）
+    public Map<Field, Object> getChanges() {
+        return changes;
+    }
+
+    // 含まれていない項目は現在の値を返す
+    @SuppressWarnings("unchecked")
+    public <T> T valueOr(Field field, T current) {
+        return changes.containsKey(field) ? (T) changes.get(field) : current;
+    }
+
+    // イベント用（JSONのキーと値。削除した項目はnull）
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        changes.forEach((field, value) -> map.put(field.name, value));
+        return map;
+    }
+
+    // 値の検証はTaskRequestと同じ条件
+    private static Object parseValue(Field field, JsonNode value) {
+        switch (field) {
+            case TITLE -> {
+                if (!value.isTextual() || value.asText().isBlank()
+                        || value.asText().length() < 2 || value.asText().length() > 200) {
+                    throw invalid();
+                }
+                return value.asText();
+            }
+            case DESCRIPTION -> {
+                if (!value.isTextual() || value.asText().length() > 2000) {
+                    throw invalid();
+                }
+                return value.asText();
+            }
+            case PRIORITY -> {
+                try {
+                    return Priority.valueOf(value.asText());
+                } catch (IllegalArgumentException e) {
+                    throw invalid();
+                }
+            }
+            case DUE_DATE -> {
+                try {
+                    return LocalDate.parse(value.asText());
+                } catch (DateTimeParseException e) {
+                    throw invalid();
+                }
+            }
+            case ASSIGNEE_ID -> {
+                if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+                    throw invalid();
+                }
+                return value.asLong();
+            }
+            default -> throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_MERGE_PATCH);
+    }
+}
+
 // ==========================================
 // 📤 TaskResponse.java
 // パス: backend/src/main/java/com/taskflow/domain/task/dto/response/TaskResponse.java
@@ -199,221 +687,4195 @@ public class TaskResponse {
     private UserResponse createdBy;
     private Long teamId;
     private String teamName;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public static TaskResponse from(Task task) {
-        return TaskResponse.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .status(task.getStatus())
-                .priority(task.getPriority())
-                .dueDate(task.getDueDate())
-                .assignee(task.getAssignee() != null ? UserResponse.from(task.getAssignee()) : null)
-                .createdBy(UserResponse.from(task.getCreatedBy()))
-                .teamId(task.getTeam().getId())
-                .teamName(task.getTeam().getName())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
+    public static TaskResponse from(Task task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .assignee(task.getAssignee() != null ? UserResponse.from(task.getAssignee()) : null)
+                .createdBy(UserResponse.from(task.getCreatedBy()))
+                .teamId(task.getTeam().getId())
+                .teamName(task.getTeam().getName())
+                .version(task.getVersion())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .build();
+    }
+}
+
+// ==========================================
+// 📤 NormalizedTaskListResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/NormalizedTaskListResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.Task;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.user.dto.response.UserResponse;
+import com.taskflow.domain.user.entity.User;
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// view=normalized: タスクはユーザーIDのみを持ち、ユーザーはusersに1回だけ含める
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedTaskListResponse {
+
+    private List<NormalizedTask> tasks;
+    private Map<Long, UserResponse> users; // 担当者・作成者（IDで重複排除）
+    private PageInfo page; // ページングしない一覧ではnull
+
+    public static NormalizedTaskListResponse from(List<Task> tasks) {
+        List<NormalizedTask> items = new ArrayList<>(tasks.size());
+        Map<Long, UserResponse> users = new LinkedHashMap<>();
+
+        // 1回の走査でタスクを変換し、初出のユーザーのみDTOを作成する
+        for (Task task : tasks) {
+            items.add(NormalizedTask.from(task));
+            addUser(users, task.getAssignee());
+            addUser(users, task.getCreatedBy());
+        }
+        return new NormalizedTaskListResponse(items, users, null);
+    }
+
+    public static NormalizedTaskListResponse from(Page<Task> page) {
+        NormalizedTaskListResponse response = from(page.getContent());
+        response.page = new PageInfo(page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+        return response;
+    }
+
+    // シャード毎の結果を結合（移行中に両方のシャードに現れたタスクはIDで除外）
+    public static NormalizedTaskListResponse merge(List<NormalizedTaskListResponse> parts) {
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        List<NormalizedTask> items = new ArrayList<>();
+        Map<Long, UserResponse> users = new LinkedHashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (NormalizedTaskListResponse part : parts) {
+            for (NormalizedTask task : part.tasks) {
+                if (seen.add(task.getId())) {
+                    items.add(task);
+                }
+            }
+            part.users.forEach(users::putIfAbsent);
+        }
+        return new NormalizedTaskListResponse(items, users, null);
+    }
+
+    private static void addUser(Map<Long, UserResponse> users, User user) {
+        if (user != null && !users.containsKey(user.getId())) {
+            users.put(user.getId(), UserResponse.from(user));
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NormalizedTask {
+        private Long id;
+        private String title;
+        private String description;
+        private TaskStatus status;
+        private Priority priority;
+        private LocalDate dueDate;
+        private Long assigneeId;
+        private Long createdById;
+        private Long teamId;
+        private String teamName;
+        private Long version;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        static NormalizedTask from(Task task) {
+            return NormalizedTask.builder()
+                    .id(task.getId())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .status(task.getStatus())
+                    .priority(task.getPriority())
+                    .dueDate(task.getDueDate())
+                    .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
+                    .createdById(task.getCreatedBy().getId())
+                    .teamId(task.getTeam().getId())
+                    .teamName(task.getTeam().getName())
+                    .version(task.getVersion())
+                    .createdAt(task.getCreatedAt())
+                    .updatedAt(task.getUpdatedAt())
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PageInfo {
+        private int number;
+        private int size;
+        private long totalElements;
+        private int totalPages;
+    }
+}
+
+// ==========================================
+// 📤 BoardCardResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/BoardCardResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardCardResponse {
+
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private Long assigneeId;
+    private String assigneeName;
+    private Long version;
+}
+
+// ==========================================
+// 📤 BoardColumnResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/BoardColumnResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.entity.TaskStatus;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardColumnResponse {
+
+    private TaskStatus status;
+    private Long totalCount; // 続きの読み込み時はnull
+    private List<BoardCardResponse> cards;
+    private String nextCursor; // 続きが無い場合はnull
+}
+
+// ==========================================
+// 📤 TaskBoardResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/TaskBoardResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBoardResponse {
+
+    private Long teamId;
+    private List<BoardColumnResponse> columns;
+}
+
+// ==========================================
+// 📤 ArchivedTaskResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/ArchivedTaskResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.entity.ArchivedTask;
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedTaskResponse {
+
+    private Long id;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private Long assigneeId;
+    private Long createdById;
+    private Long teamId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime archivedAt;
+
+    public static ArchivedTaskResponse from(ArchivedTask task) {
+        return ArchivedTaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .assigneeId(task.getAssigneeId())
+                .createdById(task.getCreatedById())
+                .teamId(task.getTeamId())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .archivedAt(task.getArchivedAt())
+                .build();
+    }
+}
+
+// ==========================================
+// 📤 TaskImportResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/TaskImportResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResponse {
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private List<RowError> errors; // 先頭から上限件数まで
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row; // ヘッダーを除くデータ行番号（1始まり）
+        private String message;
+    }
+}
+
+// ==========================================
+// 📤 TeamAnalyticsResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/TeamAnalyticsResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamAnalyticsResponse {
+
+    private Long teamId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<DailyPoint> daily; // バーンダウン（日毎の未完了数）
+    private List<WeeklyThroughput> weeklyThroughput; // 週（月曜始まり）毎の完了数
+    private Double averageCycleTimeHours; // 期間内に完了したタスクの作成→DONE平均時間（完了無しはnull）
+    private long completedCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyPoint {
+        private LocalDate date;
+        private long created;
+        private long completed;
+        private long reopened;
+        private long open; // その日の終了時点の未完了数
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeeklyThroughput {
+        private LocalDate weekStart;
+        private long completed;
+    }
+}
+
+// ==========================================
+// 📤 MemberWorkloadResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/MemberWorkloadResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.entity.UserWorkload;
+import com.taskflow.domain.user.entity.User;
+import lombok.*;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberWorkloadResponse {
+
+    private Long userId;
+    private String name;
+    private long openCount;
+    private Map<TaskStatus, Long> byStatus; // DONE以外の全状態（0件を含む）
+    private Map<Priority, Long> byPriority; // 全優先度（0件を含む）
+
+    public static MemberWorkloadResponse of(User user, List<UserWorkload> workloads) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            if (status != TaskStatus.DONE) {
+                byStatus.put(status, 0L);
+            }
+        }
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        long openCount = 0;
+        for (UserWorkload workload : workloads) {
+            byStatus.merge(workload.getStatus(), workload.getTaskCount(), Long::sum);
+            byPriority.merge(workload.getPriority(), workload.getTaskCount(), Long::sum);
+            openCount += workload.getTaskCount();
+        }
+
+        return MemberWorkloadResponse.builder()
+                .userId(user.getId())
+                .name(user.getName())
+                .openCount(openCount)
+                .byStatus(byStatus)
+                .byPriority(byPriority)
+                .build();
+    }
+}
+
+// ==========================================
+// 📤 CriticalPathResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/CriticalPathResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.service.TaskDependencyGraph.PathTask;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 未完了タスクの最長の依存連鎖（先頭から順に着手する）
+// effectiveDueDateは後続タスクの期限を守るための実質的な期限（後続の未完了タスク1件につき1日を見込む）
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CriticalPathResponse {
+
+    private Long teamId;
+    private int length;
+    private LocalDate deadline; // 先頭タスクの実質的な期限
+    private List<PathTaskResponse> tasks;
+
+    public static CriticalPathResponse of(Long teamId, List<PathTask> path) {
+        List<PathTaskResponse> tasks = path.stream()
+                .map(task -> new PathTaskResponse(task.taskId(), task.dueDate(), task.effectiveDueDate()))
+                .toList();
+        return CriticalPathResponse.builder()
+                .teamId(teamId)
+                .length(tasks.size())
+                .deadline(tasks.isEmpty() ? null : tasks.get(0).getEffectiveDueDate())
+                .tasks(tasks)
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PathTaskResponse {
+        private Long taskId;
+        private LocalDate dueDate;
+        private LocalDate effectiveDueDate;
+    }
+}
+
+// ==========================================
+// 📤 SubtaskResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/SubtaskResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.entity.Task;
+import lombok.*;
+
+// 部分木の1件（起点のタスクはdepth = 0）
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubtaskResponse {
+
+    private int depth;
+    private Long parentId; // 階層の最上位の場合はnull
+    private TaskResponse task;
+
+    public static SubtaskResponse of(Task task, int depth, Long parentId) {
+        return SubtaskResponse.builder()
+                .depth(depth)
+                .parentId(parentId)
+                .task(TaskResponse.from(task))
+                .build();
+    }
+}
+
+// ==========================================
+// 📤 TaskRollupResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/TaskRollupResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import com.taskflow.domain.task.entity.TaskStatus;
+import lombok.*;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 全ての子孫タスク（アーカイブ済みを含む）の状態別件数
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskRollupResponse {
+
+    private Long taskId;
+    private long total;
+    private Map<TaskStatus, Long> byStatus; // 全状態（0件を含む）
+    private double completionRate;
+
+    public static TaskRollupResponse of(Long taskId, List<Object[]> counts) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+
+        long total = 0;
+        for (Object[] row : counts) {
+            long count = ((Number) row[1]).longValue();
+            byStatus.merge(TaskStatus.valueOf((String) row[0]), count, Long::sum);
+            total += count;
+        }
+
+        return TaskRollupResponse.builder()
+                .taskId(taskId)
+                .total(total)
+                .byStatus(byStatus)
+                .completionRate(total == 0 ? 0 : (double) byStatus.get(TaskStatus.DONE) / total)
+                .build();
+    }
+}
+
+// ==========================================
+// 📤 TaskVersionResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/task/dto/response/TaskVersionResponse.java
+// ==========================================
+package com.taskflow.domain.task.dto.response;
+
+import lombok.*;
+
+// 部分更新の結果（タスクを読み直さず、更新後のversionのみ返す）
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskVersionResponse {
+
+    private Long id;
+    private Long version;
+}
+
+// ==========================================
+// 📦 TaskRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.Task;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.team.entity.Team;
+import com.taskflow.domain.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    @Query("SELECT t FROM Task t " +
+           "LEFT JOIN FETCH t.assignee " +
+           "LEFT JOIN FETCH t.createdBy " +
+           "LEFT JOIN FETCH t.team " +
+           "WHERE t.team = :team")
+    Page<Task> findByTeamWithAssignee(@Param("team") Team team, Pageable pageable);
+
+    @Query("SELECT t FROM Task t " +
+           "LEFT JOIN FETCH t.assignee " +
+           "LEFT JOIN FETCH t.createdBy " +
+           "LEFT JOIN FETCH t.team tm " +
+           "WHERE (t.assignee = :user OR t.createdBy = :user) " +
+           "AND tm.deleted = false")
+    List<Task> findByAssigneeOrCreatedBy(@Param("user") User user);
+
+    @Query("SELECT t FROM Task t " +
+           "WHERE t.dueDate BETWEEN :startDate AND :endDate " +
+           "AND t.status IN ('TODO', 'IN_PROGRESS') " +
+           "AND t.team.deleted = false")
+    List<Task> findUpcomingTasks(@Param("startDate") LocalDate startDate, 
+                                  @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT t FROM Task t " +
+           "WHERE t.dueDate < :today " +
+           "AND t.status IN ('TODO', 'IN_PROGRESS') " +
+           "AND t.team.deleted = false")
+    List<Task> findOverdueTasks(@Param("today") LocalDate today);
+
+    long countByTeamAndStatus(Team team, TaskStatus status);
+
+    @Query("SELECT t.id FROM Task t WHERE t.team.id = :teamId")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    // アーカイブ対象をロックして取得（移動中に状態変更されないようにする）
+    // idx_tasks_status_updated の順に読み、対象外の行を走査・ロックしない
+    @Query(value = "SELECT t.id FROM tasks t " +
+                   "WHERE t.status = 'DONE' AND t.updated_at < :threshold " +
+                   "ORDER BY t.updated_at, t.id LIMIT :batchSize FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("threshold") LocalDateTime threshold,
+                                 @Param("batchSize") int batchSize);
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :taskId")
+    Optional<Long> findVersionById(@Param("taskId") Long taskId);
+
+    // 一括削除前に、削除対象の未完了タスクを担当者・状態・優先度別に集計
+    @Query("SELECT t.assignee.id AS userId, t.status AS status, t.priority AS priority, COUNT(t) AS taskCount " +
+           "FROM Task t WHERE t.id IN :ids AND t.assignee IS NOT NULL AND t.status <> :excluded " +
+           "GROUP BY t.assignee.id, t.status, t.priority")
+    List<WorkloadDelta> summarizeWorkload(@Param("ids") List<Long> ids, @Param("excluded") TaskStatus excluded);
+
+    // 条件付きUPDATE前の状態（同じversionで更新できた場合、更新直前の値と一致する）
+    @Query("SELECT t.status AS status, t.team.id AS teamId, t.assignee.id AS assigneeId, " +
+           "t.priority AS priority, t.dueDate AS dueDate, t.createdAt AS createdAt " +
+           "FROM Task t WHERE t.id = :taskId AND t.version = :version")
+    Optional<TaskStatusSnapshot> findStatusSnapshot(@Param("taskId") Long taskId, @Param("version") Long version);
+
+    // 読み込み無しの条件付きUPDATE（バージョン一致時のみ更新）
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t " +
+           "SET t.status = :status, t.version = t.version + 1, t.updatedAt = :now " +
+           "WHERE t.id = :taskId AND t.version = :version")
+    int compareAndSetStatus(@Param("taskId") Long taskId,
+                            @Param("status") TaskStatus status,
+                            @Param("version") Long version,
+                            @Param("now") LocalDateTime now);
+}
+
+// ==========================================
+// 📦 ArchivedTaskRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/ArchivedTaskRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.ArchivedTask;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    Page<ArchivedTask> findByTeamId(Long teamId, Pageable pageable);
+
+    @Query(value = "SELECT a.id FROM archived_tasks a WHERE a.id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_tasks " +
+                   "(id, title, description, status, priority, due_date, assignee_id, team_id, created_by, " +
+                   " version, created_at, updated_at, archived_at) " +
+                   "SELECT id, title, description, status, priority, due_date, assignee_id, team_id, created_by, " +
+                   "       version, created_at, updated_at, :archivedAt " +
+                   "FROM tasks WHERE id IN (:ids)",
+           nativeQuery = true)
+    int copyFromTasks(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO tasks " +
+                   "(id, title, description, status, priority, due_date, assignee_id, team_id, created_by, " +
+                   " version, created_at, updated_at) " +
+                   "SELECT id, title, description, status, priority, due_date, assignee_id, team_id, created_by, " +
+                   "       version, created_at, :restoredAt " +
+                   "FROM archived_tasks WHERE id = :id",
+           nativeQuery = true)
+    int copyToTasks(@Param("id") Long id, @Param("restoredAt") LocalDateTime restoredAt);
+
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.teamId = :teamId")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedTask a WHERE a.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
+
+// ==========================================
+// 📸 TaskStatusSnapshot.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskStatusSnapshot.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface TaskStatusSnapshot {
+
+    TaskStatus getStatus();
+
+    Long getTeamId();
+
+    Long getAssigneeId();
+
+    Priority getPriority();
+
+    LocalDate getDueDate();
+
+    LocalDateTime getCreatedAt();
+}
+
+// ==========================================
+// 🏋️ WorkloadDelta.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/WorkloadDelta.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+
+public interface WorkloadDelta {
+
+    Long getUserId();
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    long getTaskCount();
+}
+
+// ==========================================
+// 📦 UserWorkloadRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/UserWorkloadRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.UserWorkload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserWorkloadRepository extends JpaRepository<UserWorkload, Long> {
+
+    List<UserWorkload> findByUserIdIn(Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_workloads (user_id, status, priority, task_count) " +
+                   "VALUES (:userId, :status, :priority, :delta) " +
+                   "ON DUPLICATE KEY UPDATE task_count = task_count + VALUES(task_count)",
+           nativeQuery = true)
+    int increment(@Param("userId") Long userId,
+                  @Param("status") String status,
+                  @Param("priority") String priority,
+                  @Param("delta") long delta);
+
+    // 全件再集計（集計のずれを修正する場合に使用）
+    @Modifying
+    @Query(value = "INSERT INTO user_workloads (user_id, status, priority, task_count) " +
+                   "SELECT assignee_id, status, priority, COUNT(*) FROM tasks " +
+                   "WHERE assignee_id IS NOT NULL AND status <> 'DONE' " +
+                   "GROUP BY assignee_id, status, priority",
+           nativeQuery = true)
+    int rebuildFromTasks();
+
+    // 行の無い組み合わせのみ作成（既存の行は加算集計済みのため変更しない）
+    @Modifying
+    @Query(value = "INSERT INTO user_workloads (user_id, status, priority, task_count) " +
+                   "SELECT assignee_id, status, priority, COUNT(*) FROM tasks " +
+                   "WHERE assignee_id IS NOT NULL AND status <> 'DONE' " +
+                   "GROUP BY assignee_id, status, priority " +
+                   "ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    int insertMissingFromTasks();
+}
+
+// ==========================================
+// 📦 TaskPatchRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskPatchRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.dto.request.TaskMergePatch;
+import com.taskflow.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+// 部分更新で指定された列のみを、読み込み無しの条件付きUPDATEで更新する
+// （エンティティ経由の更新は全列を書き込むため、変更していない列も上書きされる）
+@Repository
+@RequiredArgsConstructor
+public class TaskPatchRepository {
+
+    private final EntityManager entityManager;
+
+    // version一致時のみ更新し、更新件数を返す（0件は競合または存在しない）
+    public int update(Long taskId, Long version, TaskMergePatch patch, LocalDateTime now) {
+        StringBuilder jpql = new StringBuilder("UPDATE Task t SET ");
+        Map<String, Object> params = new HashMap<>();
+        patch.getChanges().forEach((field, value) -> {
+            String attribute = field.getAttribute();
+            // nullはパラメーターの型推論に頼らずリテラルで削除する
+            if (value == null) {
+                jpql.append("t.").append(attribute).append(" = NULL, ");
+                return;
+            }
+            jpql.append("t.").append(attribute).append(" = :").append(attribute).append(", ");
+            params.put(attribute, field == TaskMergePatch.Field.ASSIGNEE_ID
+                    ? entityManager.getReference(User.class, value)
+                    : value);
+        });
+        jpql.append("t.version = t.version + 1, t.updatedAt = :now ")
+                .append("WHERE t.id = :taskId AND t.version = :version");
+
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("now", now)
+                .setParameter("taskId", taskId)
+                .setParameter("version", version);
+        params.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+}
+
+// ==========================================
+// 📦 TaskStatusTransitionRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskStatusTransitionRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.TaskStatusTransition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskStatusTransitionRepository extends JpaRepository<TaskStatusTransition, Long> {
+
+    @Query("SELECT t.id FROM TaskStatusTransition t WHERE t.teamId = :teamId")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskStatusTransition t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
+
+// ==========================================
+// 📦 TaskDependencyRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskDependencyRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.TaskDependency;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    boolean existsByBlockerTaskIdAndBlockedTaskId(Long blockerTaskId, Long blockedTaskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockerTaskId = :blockerTaskId AND d.blockedTaskId = :blockedTaskId")
+    int deleteEdge(@Param("blockerTaskId") Long blockerTaskId, @Param("blockedTaskId") Long blockedTaskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.blockerTaskId = :taskId OR d.blockedTaskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    // グラフ読み込み用（エンティティを作らず、[blocker, blocked] のみ）
+    @Query("SELECT d.blockerTaskId, d.blockedTaskId FROM TaskDependency d WHERE d.teamId = :teamId")
+    List<Object[]> findEdgesByTeamId(@Param("teamId") Long teamId);
+
+    // 辺を追加するタスクの [status, dueDate]（バージョンのロック取得後にコミット済みの値を読む）
+    @Query("SELECT t.status, t.dueDate FROM Task t WHERE t.id = :taskId")
+    Optional<Object[]> findGraphTask(@Param("taskId") Long taskId);
+
+    // 辺を持つタスクの [id, status, dueDate]（アーカイブ済みのタスクは含まない）
+    @Query("SELECT t.id, t.status, t.dueDate FROM Task t WHERE t.team.id = :teamId AND (" +
+           "EXISTS (SELECT 1 FROM TaskDependency d WHERE d.blockerTaskId = t.id) OR " +
+           "EXISTS (SELECT 1 FROM TaskDependency d WHERE d.blockedTaskId = t.id))")
+    List<Object[]> findGraphTasksByTeamId(@Param("teamId") Long teamId);
+
+    @Query("SELECT v.version FROM TaskDependencyVersion v WHERE v.teamId = :teamId")
+    Optional<Long> findVersion(@Param("teamId") Long teamId);
+
+    // 行が無ければ作成し、あれば加算（同じチームのグラフ変更はこの行ロックで直列化される）
+    @Modifying
+    @Query(value = "INSERT INTO task_dependency_versions (team_id, version) VALUES (:teamId, 1) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1",
+           nativeQuery = true)
+    int incrementVersion(@Param("teamId") Long teamId);
+
+    @Query("SELECT d.id FROM TaskDependency d WHERE d.teamId = :teamId")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependencyVersion v WHERE v.teamId = :teamId")
+    int deleteVersionByTeamId(@Param("teamId") Long teamId);
+}
+
+// ==========================================
+// 📦 TaskClosureRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskClosureRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.Task;
+import com.taskflow.domain.task.entity.TaskClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key> {
+
+    // 部分木（起点を含む）を [Task, depth, parentId] で返す（主キー ancestor_id の範囲検索）
+    @Query("SELECT t, c.depth, p.ancestorId FROM TaskClosure c " +
+           "JOIN Task t ON t.id = c.descendantId " +
+           "LEFT JOIN TaskClosure p ON p.descendantId = c.descendantId AND p.depth = 1 " +
+           "LEFT JOIN FETCH t.assignee " +
+           "LEFT JOIN FETCH t.createdBy " +
+           "LEFT JOIN FETCH t.team " +
+           "WHERE c.ancestorId = :taskId " +
+           "ORDER BY c.depth, t.id")
+    List<Object[]> findSubtree(@Param("taskId") Long taskId);
+
+    // 祖先を最上位から順に返す（idx_task_closures_descendant）
+    @Query("SELECT t FROM TaskClosure c " +
+           "JOIN Task t ON t.id = c.ancestorId " +
+           "LEFT JOIN FETCH t.assignee " +
+           "LEFT JOIN FETCH t.createdBy " +
+           "LEFT JOIN FETCH t.team " +
+           "WHERE c.descendantId = :taskId AND c.depth > 0 " +
+           "ORDER BY c.depth DESC")
+    List<Task> findAncestors(@Param("taskId") Long taskId);
+
+    // 子孫の状態別件数 [status, count]（アーカイブ済みはarchived_tasksの状態）
+    @Query(value = "SELECT COALESCE(t.status, a.status), COUNT(*) FROM task_closures c " +
+                   "LEFT JOIN tasks t ON t.id = c.descendant_id " +
+                   "LEFT JOIN archived_tasks a ON a.id = c.descendant_id " +
+                   "WHERE c.ancestor_id = :taskId AND c.depth > 0 " +
+                   "AND (t.id IS NOT NULL OR a.id IS NOT NULL) " +
+                   "GROUP BY COALESCE(t.status, a.status)",
+           nativeQuery = true)
+    List<Object[]> countDescendantsByStatus(@Param("taskId") Long taskId);
+
+    @Query("SELECT c.ancestorId FROM TaskClosure c WHERE c.descendantId = :taskId AND c.depth = 1")
+    Optional<Long> findParentId(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO task_closures (ancestor_id, descendant_id, depth, team_id) " +
+                   "VALUES (:taskId, :taskId, 0, :teamId)",
+           nativeQuery = true)
+    int insertSelf(@Param("taskId") Long taskId, @Param("teamId") Long teamId);
+
+    // 移動中の部分木と移動先の祖先の行をロックする
+    // 互いの部分木へ同時に移動する場合は同じ行を取り合うため、循環を作る移動は直列化される
+    @Query(value = "SELECT descendant_id FROM task_closures WHERE ancestor_id = :taskId FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockSubtree(@Param("taskId") Long taskId);
+
+    @Query(value = "SELECT ancestor_id FROM task_closures WHERE descendant_id = :taskId FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockAncestors(@Param("taskId") Long taskId);
+
+    // 部分木の外の祖先から部分木への行を一括削除（部分木内部の行は残す）
+    @Modifying
+    @Query(value = "DELETE link FROM task_closures link " +
+                   "JOIN task_closures subtree ON subtree.descendant_id = link.descendant_id " +
+                   "LEFT JOIN task_closures inside ON inside.ancestor_id = :taskId " +
+                   "     AND inside.descendant_id = link.ancestor_id " +
+                   "WHERE subtree.ancestor_id = :taskId AND inside.ancestor_id IS NULL",
+           nativeQuery = true)
+    int detachSubtree(@Param("taskId") Long taskId);
+
+    // 新しい親の全祖先（親自身を含む）× 部分木の全ノードの行を一括追加
+    @Modifying
+    @Query(value = "INSERT INTO task_closures (ancestor_id, descendant_id, depth, team_id) " +
+                   "SELECT supertree.ancestor_id, subtree.descendant_id, supertree.depth + subtree.depth + 1, :teamId " +
+                   "FROM task_closures supertree " +
+                   "JOIN task_closures subtree ON subtree.ancestor_id = :taskId " +
+                   "WHERE supertree.descendant_id = :parentId",
+           nativeQuery = true)
+    int attachSubtree(@Param("taskId") Long taskId, @Param("parentId") Long parentId, @Param("teamId") Long teamId);
+
+    // タスク削除時: そのタスクを経由する行を全て削除し、子の部分木は最上位として残す
+    @Modifying
+    @Query(value = "DELETE link FROM task_closures link " +
+                   "JOIN task_closures up ON up.descendant_id = :taskId AND up.ancestor_id = link.ancestor_id " +
+                   "JOIN task_closures down ON down.ancestor_id = :taskId AND down.descendant_id = link.descendant_id",
+           nativeQuery = true)
+    int deleteThrough(@Param("taskId") Long taskId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_closures WHERE team_id = :teamId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByTeamId(@Param("teamId") Long teamId, @Param("limit") int limit);
+}
+
+// ==========================================
+// 📦 TeamDailyStatsRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TeamDailyStatsRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.entity.TeamDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TeamDailyStatsRepository extends JpaRepository<TeamDailyStats, Long> {
+
+    List<TeamDailyStats> findByTeamIdAndStatDateBetweenOrderByStatDateAsc(Long teamId, LocalDate from, LocalDate to);
+
+    // 期間開始時点の未完了数（それ以前の増減の合計）
+    @Query("SELECT COALESCE(SUM(s.createdCount - s.completedCount + s.reopenedCount - s.deletedCount), 0) " +
+           "FROM TeamDailyStats s WHERE s.teamId = :teamId AND s.statDate < :from")
+    long sumOpenDeltaBefore(@Param("teamId") Long teamId, @Param("from") LocalDate from);
+
+    // 当日の行が無ければ作成し、あれば加算（読み込み無しの1文）
+    @Modifying
+    @Query(value = "INSERT INTO team_daily_stats " +
+                   "(team_id, stat_date, created_count, completed_count, reopened_count, deleted_count, " +
+                   " cycle_time_seconds, cycle_time_count) " +
+                   "VALUES (:teamId, :statDate, :created, :completed, :reopened, :deleted, :cycleSeconds, :cycleCount) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "created_count = created_count + VALUES(created_count), " +
+                   "completed_count = completed_count + VALUES(completed_count), " +
+                   "reopened_count = reopened_count + VALUES(reopened_count), " +
+                   "deleted_count = deleted_count + VALUES(deleted_count), " +
+                   "cycle_time_seconds = cycle_time_seconds + VALUES(cycle_time_seconds), " +
+                   "cycle_time_count = cycle_time_count + VALUES(cycle_time_count)",
+           nativeQuery = true)
+    int increment(@Param("teamId") Long teamId,
+                  @Param("statDate") LocalDate statDate,
+                  @Param("created") long created,
+                  @Param("completed") long completed,
+                  @Param("reopened") long reopened,
+                  @Param("deleted") long deleted,
+                  @Param("cycleSeconds") long cycleSeconds,
+                  @Param("cycleCount") long cycleCount);
+
+    // 既存データからの集計（tasks + archived_tasks）。行の無い日付のみ作成し、既存の行（加算集計済み）は変更しない
+    // 完了日はDONEタスクのupdated_atで近似し、再オープン・削除の履歴は復元できないため0とする
+    @Modifying
+    @Query(value = "INSERT INTO team_daily_stats " +
+                   "(team_id, stat_date, created_count, completed_count, reopened_count, deleted_count, " +
+                   " cycle_time_seconds, cycle_time_count) " +
+                   "SELECT :teamId, d, SUM(created), SUM(completed), 0, 0, SUM(cycle), SUM(completed) FROM (" +
+                   "  SELECT DATE(created_at) d, 1 created, 0 completed, 0 cycle FROM tasks " +
+                   "   WHERE team_id = :teamId AND created_at < :before " +
+                   "  UNION ALL SELECT DATE(created_at), 1, 0, 0 FROM archived_tasks " +
+                   "   WHERE team_id = :teamId AND created_at < :before " +
+                   "  UNION ALL SELECT DATE(updated_at), 0, 1, TIMESTAMPDIFF(SECOND, created_at, updated_at) FROM tasks " +
+                   "   WHERE team_id = :teamId AND status = 'DONE' AND updated_at < :before " +
+                   "  UNION ALL SELECT DATE(updated_at), 0, 1, TIMESTAMPDIFF(SECOND, created_at, updated_at) FROM archived_tasks " +
+                   "   WHERE team_id = :teamId AND status = 'DONE' AND updated_at < :before" +
+                   ") events GROUP BY d " +
+                   "ON DUPLICATE KEY UPDATE team_id = team_id",
+           nativeQuery = true)
+    int insertMissingBefore(@Param("teamId") Long teamId, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM TeamDailyStats s WHERE s.teamId = :teamId")
+    int deleteByTeamId(@Param("teamId") Long teamId);
+}
+
+// ==========================================
+// 🧩 TaskField.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskField.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+// fields= パラメータで選択できる項目（JPQLのSELECT句と必要なJOINに対応）
+@Getter
+@RequiredArgsConstructor
+public enum TaskField {
+    ID("id", "t.id", null),
+    TITLE("title", "t.title", null),
+    DESCRIPTION("description", "t.description", null),
+    STATUS("status", "t.status", null),
+    PRIORITY("priority", "t.priority", null),
+    DUE_DATE("dueDate", "t.dueDate", null),
+    ASSIGNEE_ID("assigneeId", "t.assignee.id", null),
+    ASSIGNEE_NAME("assigneeName", "a.name", "LEFT JOIN t.assignee a"),
+    CREATED_BY_ID("createdById", "t.createdBy.id", null),
+    CREATED_BY_NAME("createdByName", "c.name", "JOIN t.createdBy c"),
+    TEAM_ID("teamId", "t.team.id", null),
+    TEAM_NAME("teamName", "tm.name", TaskField.TEAM_JOIN),
+    VERSION("version", "t.version", null),
+    CREATED_AT("createdAt", "t.createdAt", null),
+    UPDATED_AT("updatedAt", "t.updatedAt", null);
+
+    public static final String TEAM_JOIN = "JOIN t.team tm";
+
+    private final String name;
+    private final String expression;
+    private final String join;
+
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> selected = EnumSet.of(ID);
+        for (String name : StringUtils.commaDelimitedListToStringArray(fields)) {
+            if (StringUtils.hasText(name)) {
+                selected.add(fromName(name.trim()));
+            }
+        }
+        return selected;
+    }
+
+    public static TaskField fromName(String name) {
+        return Arrays.stream(values())
+                .filter(field -> field.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_FIELD_SELECTION));
+    }
+}
+
+// ==========================================
+// 📦 TaskProjectionRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskProjectionRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 指定フィールドのみをSELECTし、不要なカラムとJOINを発生させない
+@Repository
+@RequiredArgsConstructor
+public class TaskProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public Page<Map<String, Object>> findByTeam(Long teamId, Set<TaskField> fields, Pageable pageable) {
+        Map<String, Object> params = Map.of("teamId", teamId);
+
+        TypedQuery<Tuple> query = createQuery(fields, Set.of(), "t.team.id = :teamId", pageable.getSort(), params);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = toMaps(query.getResultList(), fields);
+
+        Long total = entityManager
+                .createQuery("SELECT COUNT(t) FROM Task t WHERE t.team.id = :teamId", Long.class)
+                .setParameter("teamId", teamId)
+                .getSingleResult();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    public List<Map<String, Object>> findByAssigneeOrCreatedBy(Long userId, Set<TaskField> fields) {
+        return list(fields,
+                "(t.assignee.id = :userId OR t.createdBy.id = :userId) AND tm.deleted = false",
+                Map.of("userId", userId));
+    }
+
+    public List<Map<String, Object>> findUpcoming(LocalDate startDate, LocalDate endDate, Set<TaskField> fields) {
+        return list(fields,
+                "t.dueDate BETWEEN :startDate AND :endDate AND t.status IN ('TODO', 'IN_PROGRESS') AND tm.deleted = false",
+                Map.of("startDate", startDate, "endDate", endDate));
+    }
+
+    public List<Map<String, Object>> findOverdue(LocalDate today, Set<TaskField> fields) {
+        return list(fields,
+                "t.dueDate < :today AND t.status IN ('TODO', 'IN_PROGRESS') AND tm.deleted = false",
+                Map.of("today", today));
+    }
+
+    // 論理削除済みチームを除外するため、チームをまたぐ照会は常にteamsをJOINする
+    private List<Map<String, Object>> list(Set<TaskField> fields, String where, Map<String, Object> params) {
+        TypedQuery<Tuple> query = createQuery(fields, Set.of(TaskField.TEAM_JOIN), where, Sort.unsorted(), params);
+        return toMaps(query.getResultList(), fields);
+    }
+
+    private TypedQuery<Tuple> createQuery(Set<TaskField> fields, Set<String> requiredJoins, String where,
+                                          Sort sort, Map<String, Object> params) {
+        // ソート項目もTaskFieldに限定し、必要なJOINはSELECT項目と合わせて一度だけ追加する
+        List<Sort.Order> orders = sort.toList();
+        Set<String> joins = new LinkedHashSet<>(requiredJoins);
+        Stream.concat(fields.stream(), orders.stream().map(order -> TaskField.fromName(order.getProperty())))
+                .map(TaskField::getJoin)
+                .filter(Objects::nonNull)
+                .forEach(joins::add);
+
+        StringBuilder jpql = new StringBuilder("SELECT ")
+                .append(fields.stream().map(TaskField::getExpression).collect(Collectors.joining(", ")))
+                .append(" FROM Task t ");
+        joins.forEach(join -> jpql.append(join).append(' '));
+        jpql.append("WHERE ").append(where);
+
+        if (!orders.isEmpty()) {
+            jpql.append(" ORDER BY ").append(orders.stream()
+                    .map(order -> TaskField.fromName(order.getProperty()).getExpression()
+                            + (order.isAscending() ? " ASC" : " DESC"))
+                    .collect(Collectors.joining(", ")));
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        params.forEach(query::setParameter);
+        return query;
+    }
+
+    private List<Map<String, Object>> toMaps(List<Tuple> tuples, Set<TaskField> fields) {
+        List<TaskField> ordered = new ArrayList<>(fields);
+        List<Map<String, Object>> result = new ArrayList<>(tuples.size());
+
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>(ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                row.put(ordered.get(i).getName(), tuple.get(i));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+}
+
+// ==========================================
+// 📦 TaskBoardRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskBoardRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.dto.response.BoardCardResponse;
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// カンバンボード用クエリ
+// 並び順: Priority.value降順 → 期限昇順（期限無しは最後）→ id昇順
+@Repository
+@RequiredArgsConstructor
+public class TaskBoardRepository {
+
+    public static final LocalDate NO_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String SQL_PRIORITY_RANK = "CASE t.priority "
+            + Arrays.stream(Priority.values())
+                    .map(p -> "WHEN '" + p.name() + "' THEN " + p.getValue())
+                    .collect(Collectors.joining(" "))
+            + " END";
+
+    private static final String JPQL_PRIORITY_RANK = "CASE "
+            + Arrays.stream(Priority.values())
+                    .map(p -> "WHEN t.priority = " + Priority.class.getName() + "." + p.name() + " THEN " + p.getValue())
+                    .collect(Collectors.joining(" "))
+            + " END";
+
+    // ウィンドウ関数で状態毎の上位N件と列の総数を1往復で取得
+    private static final String TOP_PER_STATUS_SQL =
+            "SELECT x.id, x.title, x.status, x.priority, x.due_date, x.assignee_id, u.name, x.version, x.total " +
+            "FROM (" +
+            "  SELECT t.id, t.title, t.status, t.priority, t.due_date, t.assignee_id, t.version, " +
+            "         ROW_NUMBER() OVER (PARTITION BY t.status " +
+            "             ORDER BY " + SQL_PRIORITY_RANK + " DESC, COALESCE(t.due_date, DATE '9999-12-31'), t.id) AS rn, " +
+            "         COUNT(*) OVER (PARTITION BY t.status) AS total " +
+            "  FROM tasks t " +
+            "  WHERE t.team_id = :teamId" +
+            ") x " +
+            "LEFT JOIN users u ON u.id = x.assignee_id " +
+            "WHERE x.rn <= :perColumn " +
+            "ORDER BY x.status, x.rn";
+
+    private static final String SEEK_JPQL =
+            "SELECT t.id, t.title, t.status, t.priority, t.dueDate, a.id, a.name, t.version " +
+            "FROM Task t LEFT JOIN t.assignee a " +
+            "WHERE t.team.id = :teamId AND t.status = :status " +
+            "AND (" + JPQL_PRIORITY_RANK + " < :rank " +
+            "  OR (" + JPQL_PRIORITY_RANK + " = :rank AND COALESCE(t.dueDate, :noDueDate) > :dueDate) " +
+            "  OR (" + JPQL_PRIORITY_RANK + " = :rank AND COALESCE(t.dueDate, :noDueDate) = :dueDate AND t.id > :id)) " +
+            "ORDER BY " + JPQL_PRIORITY_RANK + " DESC, COALESCE(t.dueDate, :noDueDate) ASC, t.id ASC";
+
+    private final EntityManager entityManager;
+
+    @SuppressWarnings("unchecked")
+    public List<BoardRow> findTopPerStatus(Long teamId, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(TOP_PER_STATUS_SQL)
+                .setParameter("teamId", teamId)
+                .setParameter("perColumn", limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new BoardRow(toCard(row, TaskStatus.valueOf((String) row[2]),
+                        Priority.valueOf((String) row[3])), ((Number) row[8]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    // カーソル位置の直後からlimit件（キーセットページング）
+    public List<BoardCardResponse> findAfter(Long teamId, TaskStatus status,
+                                             int rank, LocalDate dueDate, long id, int limit) {
+        List<Object[]> rows = entityManager.createQuery(SEEK_JPQL, Object[].class)
+                .setParameter("teamId", teamId)
+                .setParameter("status", status)
+                .setParameter("rank", rank)
+                .setParameter("dueDate", dueDate)
+                .setParameter("noDueDate", NO_DUE_DATE)
+                .setParameter("id", id)
+                .setMaxResults(limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> toCard(row, (TaskStatus) row[2], (Priority) row[3]))
+                .collect(Collectors.toList());
+    }
+
+    private static BoardCardResponse toCard(Object[] row, TaskStatus status, Priority priority) {
+        return BoardCardResponse.builder()
+                .id(((Number) row[0]).longValue())
+                .title((String) row[1])
+                .status(status)
+                .priority(priority)
+                .dueDate(toLocalDate(row[4]))
+                .assigneeId(row[5] != null ? ((Number) row[5]).longValue() : null)
+                .assigneeName((String) row[6])
+                .version(row[7] != null ? ((Number) row[7]).longValue() : null)
+                .build();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BoardRow {
+        private final BoardCardResponse card;
+        private final long columnTotal;
+    }
+}
+
+// ==========================================
+// 📦 TaskBulkInsertRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskBulkInsertRepository.java
+// ==========================================
+package com.taskflow.domain.task.repository;
+
+import com.taskflow.domain.task.dto.request.TaskRequest;
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// CSVインポート用のJDBCバッチINSERT
+// JPAを経由しないため永続化コンテキストに行が溜まらない
+// MySQLでは接続URLに rewriteBatchedStatements=true を指定すると複数行INSERTにまとめられる
+// 採番されたIDは登録順に返す（アウトボックスのイベント記録に使用）
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkInsertRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO tasks "
+            + "(title, description, status, priority, due_date, assignee_id, team_id, created_by, version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final PreparedStatementCreator INSERT =
+            connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"});
+
+    public List<Long> insertAll(List<NewTask> tasks, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, tasks.get(i), timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return tasks.size();
+            }
+        }, keyHolder);
+        return keyHolder.getKeyList().stream()
+                .map(TaskBulkInsertRepository::idOf)
+                .toList();
+    }
+
+    public Long insert(NewTask task, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = INSERT.createPreparedStatement(connection);
+            bind(ps, task, timestamp);
+            return ps;
+        }, keyHolder);
+        return idOf(keyHolder.getKeys());
+    }
+
+    // MySQLは列名に関わらず GENERATED_KEY として返すため、最初の値を使う
+    private static Long idOf(Map<String, Object> keys) {
+        return ((Number) keys.values().iterator().next()).longValue();
+    }
+
+    private static void bind(PreparedStatement ps, NewTask task, Timestamp now) throws SQLException {
+        ps.setString(1, task.getTitle());
+        ps.setString(2, task.getDescription());
+        ps.setString(3, TaskStatus.TODO.name());
+        ps.setString(4, task.getPriority().name());
+        ps.setObject(5, task.getDueDate(), Types.DATE);
+        ps.setObject(6, task.getAssigneeId(), Types.BIGINT);
+        ps.setLong(7, task.getTeamId());
+        ps.setLong(8, task.getCreatedById());
+        ps.setTimestamp(9, now);
+        ps.setTimestamp(10, now);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class NewTask {
+        private final String title;
+        private final String description;
+        private final Priority priority;
+        private final LocalDate dueDate;
+        private final Long teamId;
+        private final Long assigneeId;
+        private final Long createdById;
+
+        public static NewTask of(TaskRequest request, Long createdById) {
+            return new NewTask(
+                    request.getTitle(),
+                    request.getDescription(),
+                    request.getPriority() != null ? request.getPriority() : Priority.MEDIUM,
+                    request.getDueDate(),
+                    request.getTeamId(),
+                    request.getAssigneeId(),
+                    createdById);
+        }
+    }
+}
+
+// ==========================================
+// 📦 TaskService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskService.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.request.TaskMergePatch;
+import com.taskflow.domain.task.dto.request.TaskRequest;
+import com.taskflow.domain.task.dto.response.NormalizedTaskListResponse;
+import com.taskflow.domain.task.dto.response.TaskResponse;
+import com.taskflow.domain.task.dto.response.TaskVersionResponse;
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.Task;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.TaskClosureRepository;
+import com.taskflow.domain.task.repository.TaskField;
+import com.taskflow.domain.task.repository.TaskPatchRepository;
+import com.taskflow.domain.task.repository.TaskProjectionRepository;
+import com.taskflow.domain.task.repository.TaskRepository;
+import com.taskflow.domain.task.repository.TaskStatusSnapshot;
+import com.taskflow.domain.team.entity.Team;
+import com.taskflow.domain.team.service.TeamService;
+import com.taskflow.domain.user.entity.User;
+import com.taskflow.domain.user.service.UserService;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.coalescing.Coalesced;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.outbox.OutboxEventType;
+import com.taskflow.global.outbox.OutboxRecorder;
+import com.taskflow.global.shard.ShardKey;
+import com.taskflow.global.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskService {
+
+    private final TaskRepository taskRepository;
+    private final TaskProjectionRepository taskProjectionRepository;
+    private final TaskPatchRepository taskPatchRepository;
+    private final TaskStatusChanger taskStatusChanger;
+    private final TaskAnalyticsRecorder taskAnalyticsRecorder;
+    private final TaskWorkloadRecorder taskWorkloadRecorder;
+    private final TaskDependencyRecorder taskDependencyRecorder;
+    private final TaskClosureRepository taskClosureRepository;
+    private final OutboxRecorder outboxRecorder;
+    private final TeamService teamService;
+    private final UserService userService;
+    private final ShardRouter shardRouter;
+
+    @Transactional
+    public TaskResponse createTask(Long userId, @ShardKey("teamId") TaskRequest request) {
+        log.info("タスク作成試行: userId={}, title={}", userId, request.getTitle());
+
+        // チームは2次キャッシュから取得（削除済みチェックを兼ねる）
+        Team team = teamService.findTeamById(request.getTeamId());
+        // 作成者は認証済みユーザーのため確認不要、担当者のみ存在確認
+        User createdBy = userService.getUserReference(userId);
+        User assignee = findAssigneeReference(request.getAssigneeId());
+
+        Task task = request.toEntity(team, createdBy, assignee);
+        Task savedTask = saveWithReferences(task);
+        taskAnalyticsRecorder.recordCreated(team.getId(), 1);
+        taskWorkloadRecorder.recordCreated(request.getAssigneeId(), savedTask.getPriority());
+        TaskResponse response = TaskResponse.from(savedTask);
+        outboxRecorder.record(OutboxEventType.TASK_CREATED, savedTask.getId(), response);
+
+        log.info("タスク作成成功: taskId={}", savedTask.getId());
+        return response;
+    }
+
+    @Coalesced
+    public Page<TaskResponse> getTasksByTeam(@ShardKey Long teamId, Pageable pageable) {
+        log.info("チーム別タスクリスト照会: teamId={}", teamId);
+
+        Team team = teamService.findTeamById(teamId);
+        Page<Task> tasks = taskRepository.findByTeamWithAssignee(team, pageable);
+
+        return tasks.map(TaskResponse::from);
+    }
+
+    // view=normalized: ユーザーをusersへ分離した一覧
+    @Coalesced
+    public NormalizedTaskListResponse getTasksByTeamNormalized(@ShardKey Long teamId, Pageable pageable) {
+        Team team = teamService.findTeamById(teamId);
+        return NormalizedTaskListResponse.from(taskRepository.findByTeamWithAssignee(team, pageable));
+    }
+
+    public NormalizedTaskListResponse getMyTasksNormalized(Long userId) {
+        User user = userService.findUserById(userId);
+        return NormalizedTaskListResponse.merge(shardRouter.scatter(() ->
+                NormalizedTaskListResponse.from(taskRepository.findByAssigneeOrCreatedBy(user))));
+    }
+
+    @Coalesced
+    public TaskResponse getTaskById(@ShardKey(type = ShardKey.Type.TASK) Long taskId) {
+        Task task = findTaskById(taskId);
+        return TaskResponse.from(task);
+    }
+
+    public List<TaskResponse> getMyTasks(Long userId) {
+        log.info("自分のタスクリスト照会: userId={}", userId);
+
+        User user = userService.findUserById(userId);
+
+        // 担当・作成したタスクは複数チーム（シャード）にまたがる
+        return shardRouter.gather(() -> taskRepository.findByAssigneeOrCreatedBy(user).stream()
+                .map(TaskResponse::from)
+                .collect(Collectors.toList()), TaskResponse::getId);
+    }
+
+    @Transactional
+    public TaskResponse updateTask(@ShardKey(type = ShardKey.Type.TASK) Long taskId, TaskRequest request) {
+        log.info("タスク修正試行: taskId={}", taskId);
+
+        Task task = findTaskById(taskId);
+        User assignee = findAssigneeReference(request.getAssigneeId());
+        Long oldAssigneeId = task.getAssignee() != null ? task.getAssignee().getId() : null;
+        Priority oldPriority = task.getPriority();
+        LocalDate oldDueDate = task.getDueDate();
+
+        task.update(
+                request.getTitle(),
+                request.getDescription(),
+                request.getPriority(),
+                request.getDueDate(),
+                assignee
+        );
+        taskWorkloadRecorder.recordChanged(
+                oldAssigneeId, task.getStatus(), oldPriority,
+                task.getAssignee() != null ? task.getAssignee().getId() : null, task.getStatus(), task.getPriority());
+        if (!Objects.equals(oldDueDate, task.getDueDate())) {
+            taskDependencyRecorder.recordTaskChanged(task.getTeam().getId(), taskId, task.getStatus(), task.getDueDate());
+        }
+        saveWithReferences(task);
+        TaskResponse response = TaskResponse.from(task);
+        outboxRecorder.record(OutboxEventType.TASK_UPDATED, taskId, response);
+
+        log.info("タスク修正成功: taskId={}", taskId);
+        return response;
+    }
+
+    // 指定された項目のみを更新し、タスクは読み込まない（version一致時のみ更新し、更新後のversionを返す）
+    @Transactional
+    public TaskVersionResponse patchTask(@ShardKey(type = ShardKey.Type.TASK) Long taskId,
+                                         Long version, TaskMergePatch patch) {
+        log.info("タスク部分更新試行: taskId={}, fields={}, version={}", taskId, patch.getChanges().keySet(), version);
+
+        // 集計・依存グラフの更新に必要な変更前の値（同じversionで更新できれば更新直前の値と一致する）
+        TaskStatusSnapshot before = taskRepository.findStatusSnapshot(taskId, version)
+                .orElseThrow(() -> conflictOrNotFound(taskId));
+        if (patch.isEmpty()) {
+            return new TaskVersionResponse(taskId, version);
+        }
+
+        Long assigneeId = patch.valueOr(TaskMergePatch.Field.ASSIGNEE_ID, before.getAssigneeId());
+        Priority priority = patch.valueOr(TaskMergePatch.Field.PRIORITY, before.getPriority());
+        LocalDate dueDate = patch.valueOr(TaskMergePatch.Field.DUE_DATE, before.getDueDate());
+        if (patch.contains(TaskMergePatch.Field.ASSIGNEE_ID) && assigneeId != null) {
+            userService.verifyUsersExist(List.of(assigneeId));
+        }
+
+        int updated;
+        try {
+            updated = taskPatchRepository.update(taskId, version, patch, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("タスク部分更新時の参照エラー: taskId={}", taskId);
+            throw new BusinessException(ErrorCode.INVALID_REFERENCE);
+        }
+        if (updated == 0) {
+            throw conflictOrNotFound(taskId);
+        }
+
+        taskWorkloadRecorder.recordChanged(
+                before.getAssigneeId(), before.getStatus(), before.getPriority(),
+                assigneeId, before.getStatus(), priority);
+        if (!Objects.equals(before.getDueDate(), dueDate)) {
+            taskDependencyRecorder.recordTaskChanged(before.getTeamId(), taskId, before.getStatus(), dueDate);
+        }
+        Long newVersion = version + 1;
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", taskId);
+        payload.put("teamId", before.getTeamId());
+        payload.put("version", newVersion);
+        payload.put("changes", patch.toMap());
+        outboxRecorder.record(OutboxEventType.TASK_PATCHED, taskId, payload);
+
+        log.info("タスク部分更新成功: taskId={}, version={}", taskId, newVersion);
+        return new TaskVersionResponse(taskId, newVersion);
+    }
+
+    // リトライ毎に新しいトランザクションで最新バージョンを読む必要があるため、ここでは開始しない
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskResponse changeStatus(@ShardKey(type = ShardKey.Type.TASK) Long taskId,
+                                     TaskStatus newStatus, Long expectedVersion) {
+        log.info("タスク状態変更試行: taskId={}, newStatus={}, version={}", taskId, newStatus, expectedVersion);
+
+        TaskResponse response = taskStatusChanger.change(taskId, newStatus, expectedVersion);
+
+        log.info("タスク状態変更成功: taskId={}, version={}", taskId, response.getVersion());
+        return response;
+    }
+
+    @Transactional
+    public void deleteTask(@ShardKey(type = ShardKey.Type.TASK) Long taskId) {
+        log.info("タスク削除試行: taskId={}", taskId);
+
+        Task task = findTaskById(taskId);
+        taskRepository.delete(task);
+        taskAnalyticsRecorder.recordDeleted(task.getTeam().getId(), task.getStatus());
+        taskWorkloadRecorder.recordDeleted(
+                task.getAssignee() != null ? task.getAssignee().getId() : null, task.getStatus(), task.getPriority());
+        taskDependencyRecorder.recordTaskDeleted(task.getTeam().getId(), taskId);
+        // 子タスクは削除せず、それぞれ最上位の部分木として残す
+        taskClosureRepository.deleteThrough(taskId);
+        outboxRecorder.record(OutboxEventType.TASK_DELETED, taskId,
+                Map.of("id", taskId, "teamId", task.getTeam().getId()));
+
+        log.info("タスク削除成功: taskId={}", taskId);
+    }
+
+    public List<TaskResponse> getUpcomingTasks(int days) {
+        LocalDate today = LocalDate.now();
+        LocalDate endDate = today.plusDays(days);
+
+        return shardRouter.gather(() -> taskRepository.findUpcomingTasks(today, endDate).stream()
+                .map(TaskResponse::from)
+                .collect(Collectors.toList()), TaskResponse::getId);
+    }
+
+    public List<TaskResponse> getOverdueTasks() {
+        LocalDate today = LocalDate.now();
+        return shardRouter.gather(() -> taskRepository.findOverdueTasks(today).stream()
+                .map(TaskResponse::from)
+                .collect(Collectors.toList()), TaskResponse::getId);
+    }
+
+    // fields= 指定時の軽量レスポンス（指定カラムのみSELECT）
+    @Coalesced
+    public Page<Map<String, Object>> getTasksByTeam(@ShardKey Long teamId, String fields, Pageable pageable) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        teamService.findTeamById(teamId);
+
+        return taskProjectionRepository.findByTeam(teamId, selected, pageable);
+    }
+
+    public List<Map<String, Object>> getMyTasks(Long userId, String fields) {
+        Set<TaskField> selected = TaskField.parse(fields);
+        userService.findUserById(userId);
+
+        return shardRouter.gather(() -> taskProjectionRepository.findByAssigneeOrCreatedBy(userId, selected),
+                row -> row.get("id"));
+    }
+
+    public List<Map<String, Object>> getUpcomingTasks(int days, String fields) {
+        LocalDate today = LocalDate.now();
+        Set<TaskField> selected = TaskField.parse(fields);
+        return shardRouter.gather(() -> taskProjectionRepository.findUpcoming(today, today.plusDays(days), selected),
+                row -> row.get("id"));
+    }
+
+    public List<Map<String, Object>> getOverdueTasks(String fields) {
+        LocalDate today = LocalDate.now();
+        Set<TaskField> selected = TaskField.parse(fields);
+        return shardRouter.gather(() -> taskProjectionRepository.findOverdue(today, selected),
+                row -> row.get("id"));
+    }
+
+    public Task findTaskById(Long taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
+    }
+
+    private User findAssigneeReference(Long assigneeId) {
+        if (assigneeId == null) {
+            return null;
+        }
+        userService.verifyUsersExist(List.of(assigneeId));
+        return userService.getUserReference(assigneeId);
+    }
+
+    private BusinessException conflictOrNotFound(Long taskId) {
+        if (taskRepository.findVersionById(taskId).isEmpty()) {
+            return new BusinessException(ErrorCode.TASK_NOT_FOUND);
+        }
+        log.warn("タスク部分更新競合: taskId={}", taskId);
+        return new BusinessException(ErrorCode.TASK_STATUS_CONFLICT);
+    }
+
+    // 参照はプロキシのため、確認後に削除されたユーザー等はFK制約違反として検出する
+    private Task saveWithReferences(Task task) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("タスク保存時の参照エラー: taskId={}", task.getId());
+            throw new BusinessException(ErrorCode.INVALID_REFERENCE);
+        }
+    }
+}
+
+// ==========================================
+// 🔁 TaskStatusChanger.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskStatusChanger.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.response.TaskResponse;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.TaskRepository;
+import com.taskflow.domain.task.repository.TaskStatusSnapshot;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.outbox.OutboxEventType;
+import com.taskflow.global.outbox.OutboxRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 条件付きUPDATE（WHERE id = ? AND version = ?）による状態変更
+ *
+ * expectedVersion指定時: クライアントが見たバージョンで1回だけ更新し、競合なら409
+ * 未指定時: 最新バージョンを読み直して最大maxAttempts回まで再試行
+ * アーカイブ済みタスクをDONE以外へ戻す場合は、先にtasksへ復元してから更新する
+ */
+@Slf4j
+@Component
+public class TaskStatusChanger {
+
+    private final TaskRepository taskRepository;
+    private final TaskArchiveService taskArchiveService;
+    private final TaskAnalyticsRecorder taskAnalyticsRecorder;
+    private final TaskWorkloadRecorder taskWorkloadRecorder;
+    private final TaskDependencyRecorder taskDependencyRecorder;
+    private final OutboxRecorder outboxRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter updatedCounter;
+    private final Counter conflictCounter;
+    private final Counter retriedCounter;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public TaskStatusChanger(
+            TaskRepository taskRepository,
+            TaskArchiveService taskArchiveService,
+            TaskAnalyticsRecorder taskAnalyticsRecorder,
+            TaskWorkloadRecorder taskWorkloadRecorder,
+            TaskDependencyRecorder taskDependencyRecorder,
+            OutboxRecorder outboxRecorder,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.task.status-change.max-attempts:3}") int maxAttempts,
+            @Value("${taskflow.task.status-change.backoff-ms:20}") long backoffMillis) {
+
+        this.taskRepository = taskRepository;
+        this.taskArchiveService = taskArchiveService;
+        this.taskAnalyticsRecorder = taskAnalyticsRecorder;
+        this.taskWorkloadRecorder = taskWorkloadRecorder;
+        this.taskDependencyRecorder = taskDependencyRecorder;
+        this.outboxRecorder = outboxRecorder;
+        this.transactionTemplate = transactionTemplate;
+        this.updatedCounter = statusChangeCounter(meterRegistry, "updated");
+        this.conflictCounter = statusChangeCounter(meterRegistry, "conflict");
+        this.retriedCounter = statusChangeCounter(meterRegistry, "retried");
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    public TaskResponse change(Long taskId, TaskStatus newStatus, Long expectedVersion) {
+        if (expectedVersion != null) {
+            TaskResponse response = attempt(taskId, newStatus, expectedVersion);
+            if (response == null && reopenFromArchive(taskId, newStatus)) {
+                response = attempt(taskId, newStatus, expectedVersion);
+            }
+            if (response == null) {
+                throw conflictOrNotFound(taskId);
+            }
+            return response;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            // 同時に他のリクエストが復元した場合もtasksから読み直す
+            Long currentVersion = taskRepository.findVersionById(taskId)
+                    .or(() -> {
+                        reopenFromArchive(taskId, newStatus);
+                        return taskRepository.findVersionById(taskId);
+                    })
+                    .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
+
+            TaskResponse response = attempt(taskId, newStatus, currentVersion);
+            if (response != null) {
+                return response;
+            }
+
+            if (attempt >= maxAttempts) {
+                throw conflictOrNotFound(taskId);
+            }
+            retriedCounter.increment();
+            backoff(attempt);
+        }
+    }
+
+    /**
+     * 1回分の更新（成功時は同一トランザクション内で遷移とイベントを記録し、最新状態を返す）
+     */
+    private TaskResponse attempt(Long taskId, TaskStatus newStatus, Long version) {
+        return transactionTemplate.execute(status -> {
+            Optional<TaskStatusSnapshot> before = taskRepository.findStatusSnapshot(taskId, version);
+            if (before.isEmpty()) {
+                return null;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            int updated = taskRepository.compareAndSetStatus(taskId, newStatus, version, now);
+            if (updated == 0) {
+                return null;
+            }
+            TaskStatusSnapshot snapshot = before.get();
+            taskAnalyticsRecorder.recordTransition(taskId, snapshot, newStatus, now);
+            taskWorkloadRecorder.recordChanged(
+                    snapshot.getAssigneeId(), snapshot.getStatus(), snapshot.getPriority(),
+                    snapshot.getAssigneeId(), newStatus, snapshot.getPriority());
+            TaskResponse response = TaskResponse.from(taskRepository.findById(taskId).orElseThrow());
+            if ((snapshot.getStatus() == TaskStatus.DONE) != (newStatus == TaskStatus.DONE)) {
+                taskDependencyRecorder.recordTaskChanged(snapshot.getTeamId(), taskId, newStatus, response.getDueDate());
+            }
+            outboxRecorder.record(OutboxEventType.TASK_STATUS_CHANGED, taskId, response);
+            updatedCounter.increment();
+            return response;
+        });
+    }
+
+    private boolean reopenFromArchive(Long taskId, TaskStatus newStatus) {
+        return newStatus != TaskStatus.DONE && taskArchiveService.restore(taskId);
+    }
+
+    private BusinessException conflictOrNotFound(Long taskId) {
+        if (taskRepository.findVersionById(taskId).isEmpty()) {
+            return new BusinessException(ErrorCode.TASK_NOT_FOUND);
+        }
+        conflictCounter.increment();
+        log.warn("タスク状態変更競合: taskId={}", taskId);
+        return new BusinessException(ErrorCode.TASK_STATUS_CONFLICT);
+    }
+
+    private void backoff(int attempt) {
+        try {
+            // 同時に競合したリクエストが再度ぶつからないようジッターを入れる
+            Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.TASK_STATUS_CONFLICT);
+        }
+    }
+
+    private static Counter statusChangeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("taskflow.task.status.changes")
+                .description("タスク状態変更の結果別件数")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
+
+// ==========================================
+// 🗄️ TaskArchiveService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskArchiveService.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.response.ArchivedTaskResponse;
+import com.taskflow.domain.task.entity.ArchivedTask;
+import com.taskflow.domain.task.repository.ArchivedTaskRepository;
+import com.taskflow.domain.task.repository.TaskRepository;
+import com.taskflow.domain.team.service.TeamService;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.shard.ShardKey;
+import com.taskflow.global.shard.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 古いDONEタスクをarchived_tasksへ移動し、tasks（ホットテーブル）を小さく保つ
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TaskArchiveService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TeamService teamService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final int doneAgeDays;
+    private final int batchSize;
+
+    public TaskArchiveService(
+            TaskRepository taskRepository,
+            ArchivedTaskRepository archivedTaskRepository,
+            TeamService teamService,
+            ShardRouter shardRouter,
+            TransactionTemplate transactionTemplate,
+            @Value("${taskflow.archive.done-age-days:30}") int doneAgeDays,
+            @Value("${taskflow.archive.batch-size:1000}") int batchSize) {
+
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.teamService = teamService;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        this.doneAgeDays = doneAgeDays;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(cron = "${taskflow.archive.cron:0 30 3 * * *}")
+    public void archiveDoneTasks() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(doneAgeDays);
+        long total = 0;
+
+        // シャード毎に順に処理（シャーディング無効時は既定のデータベースのみ）
+        for (String shard : shardRouter.shards()) {
+            total += shardRouter.callOn(shard, () -> archiveShard(threshold));
+        }
+
+        log.info("タスクアーカイブ完了: archived={}, threshold={}", total, threshold);
+    }
+
+    private long archiveShard(LocalDateTime threshold) {
+        long total = 0;
+
+        // 1バッチ = 1トランザクション（対象行のロック時間を短く保つ）
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(threshold));
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime threshold) {
+        List<Long> ids = taskRepository.lockArchivableIds(threshold, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+        taskRepository.deleteByIds(ids);
+        return ids.size();
+    }
+
+    /**
+     * アーカイブ済みならtasksへ戻す（再オープン時に使用）
+     * @return 復元した場合true
+     */
+    @Transactional
+    public boolean restore(@ShardKey(type = ShardKey.Type.TASK) Long taskId) {
+        // 同じタスクの同時復元は行ロックで直列化し、後続は復元済み（行なし）として扱う
+        if (archivedTaskRepository.lockById(taskId).isEmpty()) {
+            return false;
+        }
+        try {
+            archivedTaskRepository.copyToTasks(taskId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("アーカイブからの復元競合: taskId={}", taskId);
+            throw new BusinessException(ErrorCode.TASK_STATUS_CONFLICT);
+        }
+        archivedTaskRepository.deleteByIds(List.of(taskId));
+
+        log.info("アーカイブからタスク復元: taskId={}", taskId);
+        return true;
+    }
+
+    public Page<ArchivedTaskResponse> getArchivedTasks(@ShardKey Long teamId, Pageable pageable) {
+        teamService.findTeamById(teamId);
+        return archivedTaskRepository.findByTeamId(teamId, pageable).map(ArchivedTaskResponse::from);
+    }
+
+    public ArchivedTaskResponse getArchivedTask(@ShardKey(type = ShardKey.Type.TASK) Long taskId) {
+        ArchivedTask task = archivedTaskRepository.findById(taskId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
+        return ArchivedTaskResponse.from(task);
+    }
+}
+
+// ==========================================
+// 🔖 BoardCursor.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/BoardCursor.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.response.BoardCardResponse;
+import com.taskflow.domain.task.repository.TaskBoardRepository;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+// ボード列の「続きを読む」カーソル（最後に返したカードの並び順キー）
+@Getter
+@RequiredArgsConstructor
+public class BoardCursor {
+
+    private final int rank;
+    private final LocalDate dueDate;
+    private final long id;
+
+    public static BoardCursor after(BoardCardResponse card) {
+        LocalDate dueDate = card.getDueDate() != null ? card.getDueDate() : TaskBoardRepository.NO_DUE_DATE;
+        return new BoardCursor(card.getPriority().getValue(), dueDate, card.getId());
+    }
+
+    public String encode() {
+        String raw = rank + ":" + dueDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            return new BoardCursor(Integer.parseInt(parts[0]), LocalDate.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
+
+// ==========================================
+// 📦 TaskBoardService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskBoardService.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.response.BoardCardResponse;
+import com.taskflow.domain.task.dto.response.BoardColumnResponse;
+import com.taskflow.domain.task.dto.response.TaskBoardResponse;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.TaskBoardRepository;
+import com.taskflow.domain.team.service.TeamService;
+import com.taskflow.global.shard.ShardKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskBoardService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TaskBoardRepository taskBoardRepository;
+    private final TeamService teamService;
+
+    public TaskBoardResponse getBoard(@ShardKey Long teamId, int limit) {
+        log.info("ボード照会: teamId={}, limit={}", teamId, limit);
+
+        teamService.findTeamById(teamId);
+        int size = clamp(limit);
+
+        Map<TaskStatus, List<BoardCardResponse>> cards = new EnumMap<>(TaskStatus.class);
+        Map<TaskStatus, Long> totals = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            cards.put(status, new ArrayList<>());
+            totals.put(status, 0L);
+        }
+
+        for (TaskBoardRepository.BoardRow row : taskBoardRepository.findTopPerStatus(teamId, size)) {
+            cards.get(row.getCard().getStatus()).add(row.getCard());
+            totals.put(row.getCard().getStatus(), row.getColumnTotal());
+        }
+
+        List<BoardColumnResponse> columns = cards.entrySet().stream()
+                .map(entry -> BoardColumnResponse.builder()
+                        .status(entry.getKey())
+                        .totalCount(totals.get(entry.getKey()))
+                        .cards(entry.getValue())
+                        .nextCursor(totals.get(entry.getKey()) > entry.getValue().size()
+                                ? nextCursor(entry.getValue())
+                                : null)
+                        .build())
+                .collect(Collectors.toList());
+
+        return TaskBoardResponse.builder()
+                .teamId(teamId)
+                .columns(columns)
+                .build();
+    }
+
+    public BoardColumnResponse getColumn(@ShardKey Long teamId, TaskStatus status, String cursor, int limit) {
+        teamService.findTeamById(teamId);
+        int size = clamp(limit);
+        BoardCursor after = BoardCursor.decode(cursor);
+
+        // 1件多く取得して続きの有無を判定
+        List<BoardCardResponse> cards = new ArrayList<>(taskBoardRepository.findAfter(
+                teamId, status, after.getRank(), after.getDueDate(), after.getId(), size + 1));
+        boolean hasMore = cards.size() > size;
+        if (hasMore) {
+            cards.remove(size);
+        }
+
+        return BoardColumnResponse.builder()
+                .status(status)
+                .cards(cards)
+                .nextCursor(hasMore ? nextCursor(cards) : null)
+                .build();
+    }
+
+    private static String nextCursor(List<BoardCardResponse> cards) {
+        return cards.isEmpty() ? null : BoardCursor.after(cards.get(cards.size() - 1)).encode();
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
+
+// ==========================================
+// 📄 TaskCsvReader.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskCsvReader.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// RFC 4180形式のCSVを1レコードずつ読み込む（ファイル全体はメモリに載せない）
+// 1行目はヘッダー。列名は大文字小文字・空白・アンダースコアを区別しない（dueDate = due_date）
+public class TaskCsvReader implements Closeable {
+
+    public static final String TITLE = "title";
+    public static final String DESCRIPTION = "description";
+    public static final String PRIORITY = "priority";
+    public static final String DUE_DATE = "duedate";
+    public static final String ASSIGNEE_EMAIL = "assigneeemail";
+
+    private static final int MAX_FIELD_LENGTH = 10_000; // 閉じ忘れの引用符で1フィールドが巨大化するのを防ぐ
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> header = new HashMap<>();
+    private int peeked = NONE;
+    private long rowNumber;
+
+    public TaskCsvReader(Reader reader) throws IOException {
+        this.reader = new BufferedReader(reader);
+        skipByteOrderMark();
+
+        List<String> columns = readRecord();
+        if (columns == null) {
+            throw new BusinessException(ErrorCode.INVALID_CSV_FORMAT);
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            header.put(normalize(columns.get(i)), i);
+        }
+        if (!header.containsKey(TITLE)) {
+            throw new BusinessException(ErrorCode.INVALID_CSV_FORMAT);
+        }
+    }
+
+    // 次のデータ行。終端ならnull（空行は読み飛ばす）
+    public CsvRow next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        return new CsvRow(++rowNumber, fields, header);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new BusinessException(ErrorCode.INVALID_CSV_FORMAT);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                append(field, c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        peeked = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = read();
+        }
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_CSV_FORMAT);
+        }
+        field.append((char) c);
+    }
+
+    private int read() throws IOException {
+        if (peeked != NONE) {
+            int c = peeked;
+            peeked = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    // Excelで保存したUTF-8のCSVは先頭にBOMが付く
+    private void skipByteOrderMark() throws IOException {
+        int first = reader.read();
+        if (first != '\uFEFF') {
+            peeked = first;
+        }
+    }
+
+    private static String normalize(String column) {
+        return column.trim().replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class CsvRow {
+        private final long number;
+        private final List<String> fields;
+        private final Map<String, Integer> header;
+
+        // 列が無い、または空文字の場合はnull
+        public String get(String column) {
+            Integer index = header.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
+
+// ==========================================
+// 📥 TaskImportService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskImportService.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.request.TaskRequest;
+import com.taskflow.domain.task.dto.response.TaskImportResponse;
+import com.taskflow.domain.task.dto.response.TaskResponse;
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.TaskBulkInsertRepository;
+import com.taskflow.domain.task.repository.TaskBulkInsertRepository.NewTask;
+import com.taskflow.domain.team.entity.Team;
+import com.taskflow.domain.team.service.TeamService;
+import com.taskflow.domain.user.dto.response.UserResponse;
+import com.taskflow.domain.user.service.UserService;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.outbox.OutboxEventType;
+import com.taskflow.global.outbox.OutboxRecorder;
+import com.taskflow.global.shard.ShardKey;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// CSVからのタスク一括登録
+// 行はストリームで読み込み、チャンク単位で担当者の解決とJDBCバッチINSERTを行う
+// （保持するのは1チャンク分の行とエラー上限件数のみのため、行数に関わらずメモリ使用量は一定）
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TaskBulkInsertRepository taskBulkInsertRepository;
+    private final TaskAnalyticsRecorder taskAnalyticsRecorder;
+    private final TaskWorkloadRecorder taskWorkloadRecorder;
+    private final OutboxRecorder outboxRecorder;
+    private final TeamService teamService;
+    private final UserService userService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TaskImportService(
+            TaskBulkInsertRepository taskBulkInsertRepository,
+            TaskAnalyticsRecorder taskAnalyticsRecorder,
+            TaskWorkloadRecorder taskWorkloadRecorder,
+            OutboxRecorder outboxRecorder,
+            TeamService teamService,
+            UserService userService,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            @Value("${taskflow.task.import.chunk-size:500}") int chunkSize) {
+
+        this.taskBulkInsertRepository = taskBulkInsertRepository;
+        this.taskAnalyticsRecorder = taskAnalyticsRecorder;
+        this.taskWorkloadRecorder = taskWorkloadRecorder;
+        this.outboxRecorder = outboxRecorder;
+        this.teamService = teamService;
+        this.userService = userService;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public TaskImportResponse importTasks(Long userId, @ShardKey Long teamId, MultipartFile file) {
+        log.info("タスク一括登録開始: userId={}, teamId={}, size={}", userId, teamId, file.getSize());
+        teamService.findTeamById(teamId);
+
+        ImportProgress progress = new ImportProgress();
+        try (TaskCsvReader reader = new TaskCsvReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+
+            List<TaskCsvReader.CsvRow> chunk = new ArrayList<>(chunkSize);
+            TaskCsvReader.CsvRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(userId, teamId, chunk, progress);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(userId, teamId, chunk, progress);
+            }
+        } catch (IOException e) {
+            log.warn("CSV読み込み失敗: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.INVALID_CSV_FORMAT);
+        }
+
+        log.info("タスク一括登録完了: teamId={}, total={}, imported={}, failed={}",
+                teamId, progress.total, progress.imported, progress.failed);
+        return progress.toResponse();
+    }
+
+    private void importChunk(Long userId, Long teamId, List<TaskCsvReader.CsvRow> chunk, ImportProgress progress) {
+        // 担当者メールアドレスはチャンク毎に1回のクエリで解決（大文字・小文字は区別しない）
+        Set<String> emails = chunk.stream()
+                .map(row -> row.get(TaskCsvReader.ASSIGNEE_EMAIL))
+                .filter(Objects::nonNull)
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        Map<String, Long> assigneeIds = emails.isEmpty() ? Map.of() : userService.findIdsByEmails(emails);
+
+        List<TaskCsvReader.CsvRow> validRows = new ArrayList<>(chunk.size());
+        List<NewTask> tasks = new ArrayList<>(chunk.size());
+
+        for (TaskCsvReader.CsvRow row : chunk) {
+            progress.total++;
+
+            String email = row.get(TaskCsvReader.ASSIGNEE_EMAIL);
+            Long assigneeId = email != null ? assigneeIds.get(email.toLowerCase(Locale.ROOT)) : null;
+            if (email != null && assigneeId == null) {
+                progress.fail(row.getNumber(), "担当者が見つかりません: " + email);
+                continue;
+            }
+
+            TaskRequest request;
+            try {
+                request = toRequest(row, teamId, assigneeId);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                progress.fail(row.getNumber(), e instanceof DateTimeParseException
+                        ? "期限はyyyy-MM-dd形式で指定してください: " + row.get(TaskCsvReader.DUE_DATE)
+                        : "優先度が不正です: " + row.get(TaskCsvReader.PRIORITY));
+                continue;
+            }
+
+            Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                progress.fail(row.getNumber(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                continue;
+            }
+
+            validRows.add(row);
+            tasks.add(NewTask.of(request, userId));
+        }
+
+        if (!tasks.isEmpty()) {
+            persist(validRows, tasks, progress);
+        }
+    }
+
+    private void persist(List<TaskCsvReader.CsvRow> rows, List<NewTask> tasks, ImportProgress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> ids = taskBulkInsertRepository.insertAll(tasks, now);
+                taskAnalyticsRecorder.recordCreated(tasks.get(0).getTeamId(), tasks.size());
+                taskWorkloadRecorder.recordImported(tasks);
+                recordCreatedEvents(tasks, ids, now);
+            });
+            progress.imported += tasks.size();
+        } catch (DataAccessException e) {
+            // バッチ全体がロールバックされるため、失敗行を特定できるよう1行ずつ登録し直す
+            log.warn("バッチ登録失敗のため1行ずつ再登録: rows={}, cause={}", tasks.size(), e.getMessage());
+            for (int i = 0; i < tasks.size(); i++) {
+                NewTask task = tasks.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        LocalDateTime now = LocalDateTime.now();
+                        Long id = taskBulkInsertRepository.insert(task, now);
+                        taskAnalyticsRecorder.recordCreated(task.getTeamId(), 1);
+                        taskWorkloadRecorder.recordCreated(task.getAssigneeId(), task.getPriority());
+                        recordCreatedEvents(List.of(task), List.of(id), now);
+                    });
+                    progress.imported++;
+                } catch (DataAccessException rowError) {
+                    progress.fail(rows.get(i).getNumber(), "登録に失敗しました");
+                }
+            }
+        }
+    }
+
+    /**
+     * 画面から作成した場合と同じTASK_CREATEDイベント（TaskResponse）を、登録したタスク毎に同じトランザクションで記録する
+     * チーム・ユーザーは2次キャッシュから取得する
+     */
+    private void recordCreatedEvents(List<NewTask> tasks, List<Long> ids, LocalDateTime now) {
+        Team team = teamService.findTeamById(tasks.get(0).getTeamId());
+        Map<Long, UserResponse> users = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            NewTask task = tasks.get(i);
+            TaskResponse response = TaskResponse.builder()
+                    .id(ids.get(i))
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .status(TaskStatus.TODO)
+                    .priority(task.getPriority())
+                    .dueDate(task.getDueDate())
+                    .assignee(task.getAssigneeId() != null ? userOf(task.getAssigneeId(), users) : null)
+                    .createdBy(userOf(task.getCreatedById(), users))
+                    .teamId(team.getId())
+                    .teamName(team.getName())
+                    .version(0L)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            outboxRecorder.record(OutboxEventType.TASK_CREATED, response.getId(), response);
+        }
+    }
+
+    private UserResponse userOf(Long userId, Map<Long, UserResponse> users) {
+        return users.computeIfAbsent(userId, id -> UserResponse.from(userService.findUserById(id)));
+    }
+
+    private TaskRequest toRequest(TaskCsvReader.CsvRow row, Long teamId, Long assigneeId) {
+        String priority = row.get(TaskCsvReader.PRIORITY);
+        String dueDate = row.get(TaskCsvReader.DUE_DATE);
+
+        return TaskRequest.builder()
+                .title(row.get(TaskCsvReader.TITLE))
+                .description(row.get(TaskCsvReader.DESCRIPTION))
+                .priority(priority != null ? Priority.valueOf(priority.toUpperCase(Locale.ROOT)) : null)
+                .dueDate(dueDate != null ? LocalDate.parse(dueDate) : null)
+                .teamId(teamId)
+                .assigneeId(assigneeId)
+                .build();
+    }
+
+    private static class ImportProgress {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<TaskImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TaskImportResponse.RowError(row, message));
+            }
+        }
+
+        TaskImportResponse toResponse() {
+            return TaskImportResponse.builder()
+                    .totalRows(total)
+                    .importedRows(imported)
+                    .failedRows(failed)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
+
+// ==========================================
+// 📈 TaskAnalyticsRecorder.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskAnalyticsRecorder.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.entity.TaskStatusTransition;
+import com.taskflow.domain.task.repository.TaskStatusSnapshot;
+import com.taskflow.domain.task.repository.TaskStatusTransitionRepository;
+import com.taskflow.domain.task.repository.TeamDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// タスクの作成・状態変更・削除をチーム別日次集計へ加算する
+// 呼び出し元と同じトランザクションで実行し、タスク本体と集計がずれないようにする
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TaskAnalyticsRecorder {
+
+    private final TaskStatusTransitionRepository taskStatusTransitionRepository;
+    private final TeamDailyStatsRepository teamDailyStatsRepository;
+
+    public void recordCreated(Long teamId, int count) {
+        teamDailyStatsRepository.increment(teamId, LocalDate.now(), count, 0, 0, 0, 0, 0);
+    }
+
+    public void recordTransition(Long taskId, TaskStatusSnapshot before, TaskStatus toStatus, LocalDateTime changedAt) {
+        if (before.getStatus() == toStatus) {
+            return;
+        }
+
+        taskStatusTransitionRepository.save(TaskStatusTransition.builder()
+                .taskId(taskId)
+                .teamId(before.getTeamId())
+                .fromStatus(before.getStatus())
+                .toStatus(toStatus)
+                .changedAt(changedAt)
+                .build());
+
+        boolean completed = toStatus == TaskStatus.DONE;
+        boolean reopened = before.getStatus() == TaskStatus.DONE;
+        long cycleSeconds = completed ? Duration.between(before.getCreatedAt(), changedAt).getSeconds() : 0;
+
+        teamDailyStatsRepository.increment(before.getTeamId(), changedAt.toLocalDate(),
+                0, completed ? 1 : 0, reopened ? 1 : 0, 0, cycleSeconds, completed ? 1 : 0);
+    }
+
+    // 完了済みタスクの削除は未完了数に影響しない
+    public void recordDeleted(Long teamId, TaskStatus status) {
+        if (status != TaskStatus.DONE) {
+            teamDailyStatsRepository.increment(teamId, LocalDate.now(), 0, 0, 0, 1, 0, 0);
+        }
+    }
+}
+
+// ==========================================
+// 📈 TaskAnalyticsService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskAnalyticsService.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.response.TeamAnalyticsResponse;
+import com.taskflow.domain.task.entity.TeamDailyStats;
+import com.taskflow.domain.task.repository.TeamDailyStatsRepository;
+import com.taskflow.domain.team.service.TeamService;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.shard.ShardKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// チーム分析（日次集計のみを参照し、tasksは走査しない）
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskAnalyticsService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final TeamDailyStatsRepository teamDailyStatsRepository;
+    private final TeamService teamService;
+
+    public TeamAnalyticsResponse getTeamAnalytics(@ShardKey Long teamId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        teamService.findTeamById(teamId);
+
+        Map<LocalDate, TeamDailyStats> stats = teamDailyStatsRepository
+                .findByTeamIdAndStatDateBetweenOrderByStatDateAsc(teamId, from, to).stream()
+                .collect(Collectors.toMap(TeamDailyStats::getStatDate, Function.identity()));
+
+        long open = teamDailyStatsRepository.sumOpenDeltaBefore(teamId, from);
+        long completedCount = 0;
+        long cycleSeconds = 0;
+        long cycleCount = 0;
+        List<TeamAnalyticsResponse.DailyPoint> daily = new ArrayList<>();
+        Map<LocalDate, Long> weekly = new TreeMap<>();
+
+        // 集計行の無い日も0で埋める
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            TeamDailyStats day = stats.get(date);
+            long created = day != null ? day.getCreatedCount() : 0;
+            long completed = day != null ? day.getCompletedCount() : 0;
+            long reopened = day != null ? day.getReopenedCount() : 0;
+            open += day != null ? day.getOpenDelta() : 0;
+
+            daily.add(new TeamAnalyticsResponse.DailyPoint(date, created, completed, reopened, open));
+            weekly.merge(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), completed, Long::sum);
+
+            completedCount += completed;
+            if (day != null) {
+                cycleSeconds += day.getCycleTimeSeconds();
+                cycleCount += day.getCycleTimeCount();
+            }
+        }
+
+        return TeamAnalyticsResponse.builder()
+                .teamId(teamId)
+                .from(from)
+                .to(to)
+                .daily(daily)
+                .weeklyThroughput(weekly.entrySet().stream()
+                        .map(e -> new TeamAnalyticsResponse.WeeklyThroughput(e.getKey(), e.getValue()))
+                        .collect(Collectors.toList()))
+                .averageCycleTimeHours(cycleCount > 0 ? cycleSeconds / 3600.0 / cycleCount : null)
+                .completedCount(completedCount)
+                .build();
+    }
+}
+
+// ==========================================
+// 📈 TaskAnalyticsBackfillService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskAnalyticsBackfillService.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.repository.TeamDailyStatsRepository;
+import com.taskflow.domain.team.repository.TeamRepository;
+import com.taskflow.global.shard.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 集計導入前の既存データからteam_daily_statsを作成
+// before より前で行の無い日付のみ作成する（加算集計済みの行は上書きしないため、起動中の書き込みと競合しない）
+// （taskflow.analytics.backfill.before に導入日を指定し、全ノードで同じ値にすること）
+// 導入後の日付は完了を updated_at から数えると加算集計と二重になるため、on-startup には before の指定を必須とする
+@Slf4j
+@Service
+public class TaskAnalyticsBackfillService {
+
+    private static final int TEAM_BATCH_SIZE = 100;
+
+    private final TeamRepository teamRepository;
+    private final TeamDailyStatsRepository teamDailyStatsRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean onStartup;
+    private final LocalDate before;
+
+    public TaskAnalyticsBackfillService(
+            TeamRepository teamRepository,
+            TeamDailyStatsRepository teamDailyStatsRepository,
+            ShardRouter shardRouter,
+            TransactionTemplate transactionTemplate,
+            @Value("${taskflow.analytics.backfill.on-startup:false}") boolean onStartup,
+            @Value("${taskflow.analytics.backfill.before:}") String before) {
+
+        this.teamRepository = teamRepository;
+        this.teamDailyStatsRepository = teamDailyStatsRepository;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = transactionTemplate;
+        this.onStartup = onStartup;
+        if (onStartup && before.isBlank()) {
+            throw new IllegalStateException(
+                    "taskflow.analytics.backfill.on-startup を有効にする場合は taskflow.analytics.backfill.before（集計の導入日）を指定してください");
+        }
+        this.before = before.isBlank() ? null : LocalDate.parse(before);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (onStartup) {
+            backfill(before);
+        }
+    }
+
+    public void backfill(LocalDate before) {
+        log.info("分析集計バックフィル開始: before={}", before);
+        long afterId = 0;
+        int teams = 0;
+
+        List<Long> teamIds;
+        do {
+            teamIds = teamRepository.findActiveIdsAfter(afterId, PageRequest.of(0, TEAM_BATCH_SIZE));
+            // 1チーム = 1トランザクション（チームのシャードで実行）
+            for (Long teamId : teamIds) {
+                shardRouter.runOn(shardRouter.shardOfTeam(teamId), () ->
+                        transactionTemplate.executeWithoutResult(status ->
+                                teamDailyStatsRepository.insertMissingBefore(teamId, before.atStartOfDay())));
+                afterId = teamId;
+                teams++;
+            }
+        } while (teamIds.size() == TEAM_BATCH_SIZE);
+
+        log.info("分析集計バックフィル完了: teams={}", teams);
+    }
+}
+
+// ==========================================
+// 🏋️ TaskWorkloadRecorder.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskWorkloadRecorder.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.entity.Priority;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.TaskBulkInsertRepository.NewTask;
+import com.taskflow.domain.task.repository.UserWorkloadRepository;
+import com.taskflow.domain.task.repository.WorkloadDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// 担当者別の未完了タスク数（user_workloads）を加算で更新する
+// 呼び出し元と同じトランザクションで実行し、タスク本体とずれないようにする
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TaskWorkloadRecorder {
+
+    private final UserWorkloadRepository userWorkloadRepository;
+
+    public void recordCreated(Long assigneeId, Priority priority) {
+        add(assigneeId, TaskStatus.TODO, priority, 1);
+    }
+
+    // CSVインポートはチャンク内で担当者・優先度毎にまとめて加算
+    public void recordImported(List<NewTask> tasks) {
+        Map<Long, Map<Priority, Long>> counts = tasks.stream()
+                .filter(task -> task.getAssigneeId() != null)
+                .collect(Collectors.groupingBy(NewTask::getAssigneeId,
+                        Collectors.groupingBy(NewTask::getPriority, Collectors.counting())));
+
+        counts.forEach((assigneeId, byPriority) ->
+                byPriority.forEach((priority, count) -> add(assigneeId, TaskStatus.TODO, priority, count)));
+    }
+
+    // 担当者・状態・優先度のいずれかが変わった場合のみ、旧区分から新区分へ1件移す
+    public void recordChanged(Long oldAssigneeId, TaskStatus oldStatus, Priority oldPriority,
+                              Long newAssigneeId, TaskStatus newStatus, Priority newPriority) {
+        if (Objects.equals(oldAssigneeId, newAssigneeId) && oldStatus == newStatus && oldPriority == newPriority) {
+            return;
+        }
+        add(oldAssigneeId, oldStatus, oldPriority, -1);
+        add(newAssigneeId, newStatus, newPriority, 1);
+    }
+
+    public void recordDeleted(Long assigneeId, TaskStatus status, Priority priority) {
+        add(assigneeId, status, priority, -1);
+    }
+
+    // チーム削除時の一括削除分
+    public void recordPurged(List<WorkloadDelta> deltas) {
+        deltas.forEach(delta -> add(delta.getUserId(), delta.getStatus(), delta.getPriority(), -delta.getTaskCount()));
+    }
+
+    private void add(Long assigneeId, TaskStatus status, Priority priority, long delta) {
+        if (assigneeId == null || status == TaskStatus.DONE) {
+            return;
+        }
+        userWorkloadRepository.increment(assigneeId, status.name(), priority.name(), delta);
+    }
+}
+
+// ==========================================
+// 🏋️ TaskWorkloadService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskWorkloadService.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.dto.response.MemberWorkloadResponse;
+import com.taskflow.domain.task.entity.UserWorkload;
+import com.taskflow.domain.task.repository.UserWorkloadRepository;
+import com.taskflow.domain.team.entity.TeamMember;
+import com.taskflow.domain.team.service.TeamService;
+import com.taskflow.global.shard.ShardKey;
+import com.taskflow.global.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskWorkloadService {
+
+    private final UserWorkloadRepository userWorkloadRepository;
+    private final TeamService teamService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${taskflow.workload.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    // メンバー一覧は2次キャッシュ、件数はuser_workloadsへの1クエリで取得
+    public List<MemberWorkloadResponse> getTeamWorkloads(@ShardKey Long teamId) {
+        List<TeamMember> members = teamService.findMembers(teamId);
+        List<Long> userIds = members.stream()
+                .map(member -> member.getUser().getId())
+                .collect(Collectors.toList());
+
+        // 他チームのタスク分は各シャードに記録されているため、全シャードの行を合算する
+        Map<Long, List<UserWorkload>> workloads = shardRouter.gather(() -> userWorkloadRepository.findByUserIdIn(userIds))
+                .stream()
+                .collect(Collectors.groupingBy(UserWorkload::getUserId));
+
+        return members.stream()
+                .map(member -> MemberWorkloadResponse.of(member.getUser(),
+                        workloads.getOrDefault(member.getUser().getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    // 起動中の加算集計を上書きしないよう、行の無い組み合わせのみ作成する
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        for (String shard : shardRouter.shards()) {
+            int rows = shardRouter.callOn(shard, () -> transactionTemplate.execute(status ->
+                    userWorkloadRepository.insertMissingFromTasks()));
+            log.info("担当者別タスク数の初期作成完了: shard={}, rows={}", shard, rows);
+        }
+    }
+
+    // 全件の作り直し（集計のずれの修正。タスクを更新するリクエストが無い状態で実行すること）
+    // シャード毎に1トランザクション
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild() {
+        for (String shard : shardRouter.shards()) {
+            int rows = shardRouter.callOn(shard, () -> transactionTemplate.execute(status -> {
+                userWorkloadRepository.deleteAllInBatch();
+                return userWorkloadRepository.rebuildFromTasks();
+            }));
+            log.info("担当者別タスク数の再集計完了: shard={}, rows={}", shard, rows);
+        }
+    }
+}
+
+// ==========================================
+// 🕸️ TaskDependencyGraph.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskDependencyGraph.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.taskflow.domain.task.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// チーム内のタスク依存関係（blocker → blocked）をプリミティブ配列で保持するグラフ
+// - 循環検出・トポロジカル順序: Pearce-Kelly法（順序が逆転する範囲だけを探索して並べ替える）
+// - depth: そのタスクで終わる未完了タスクの最長の連鎖数（変化したノードから前方へ伝播）
+// - effectiveDue: 後続タスクの期限を守るための実質的な期限（後続の未完了タスク1件につき1日を見込み、後方へ伝播）
+// スレッドセーフではないため、TaskDependencyGraphCacheがグラフ単位で同期する
+public class TaskDependencyGraph {
+
+    private static final int NO_DUE = Integer.MAX_VALUE;
+    private static final int[] EMPTY = new int[0];
+
+    private long version;
+    private int size;
+    private int edgeCount;
+
+    // タスクID → ノード番号（オープンアドレス法、キー0は空き）
+    private long[] slotKeys;
+    private int[] slotNodes;
+
+    private long[] taskIds;
+    private boolean[] alive;
+    private boolean[] open;
+    private int[] due;
+    private int[] effectiveDue;
+    private int[] depth;
+
+    private int[][] out;
+    private int[] outDegree;
+    private int[][] in;
+    private int[] inDegree;
+
+    private int[] ord; // ノード → 順序
+    private int[] at;  // 順序 → ノード
+
+    private int[] marks;
+    private int stamp;
+    private boolean[] queued;
+
+    public TaskDependencyGraph(long version, int expectedTasks) {
+        this.version = version;
+        allocate(Math.max(16, expectedTasks));
+    }
+
+    // 一括読み込み: ノードと辺を登録した後、Kahn法で順序を決めて1回ずつ前方・後方へ計算する
+    public static TaskDependencyGraph load(long version, long[] taskIds, TaskStatus[] statuses, LocalDate[] dueDates,
+                                           long[] blockerIds, long[] blockedIds) {
+        TaskDependencyGraph graph = new TaskDependencyGraph(version, taskIds.length);
+        for (int i = 0; i < taskIds.length; i++) {
+            int node = graph.nodeFor(taskIds[i]);
+            graph.open[node] = statuses[i] != TaskStatus.DONE;
+            graph.due[node] = toDay(dueDates[i]);
+        }
+        for (int i = 0; i < blockerIds.length; i++) {
+            // tasksに無い端点（アーカイブ済み）は完了扱い
+            graph.link(graph.nodeFor(blockerIds[i]), graph.nodeFor(blockedIds[i]));
+        }
+        graph.sortAll();
+        return graph;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public boolean wouldCreateCycle(long blockerId, long blockedId) {
+        if (blockerId == blockedId) {
+            return true;
+        }
+        int u = nodeOf(blockerId);
+        int v = nodeOf(blockedId);
+        if (u < 0 || v < 0 || ord[u] < ord[v]) {
+            return false;
+        }
+        return collectForward(v, ord[u]) == null;
+    }
+
+    public boolean containsTask(long taskId) {
+        int node = nodeOf(taskId);
+        return node >= 0 && alive[node];
+    }
+
+    public void putTask(long taskId, TaskStatus status, LocalDate dueDate) {
+        int node = nodeFor(taskId);
+        boolean nowOpen = status != TaskStatus.DONE;
+        int day = toDay(dueDate);
+        if (open[node] == nowOpen && due[node] == day) {
+            return;
+        }
+        boolean openChanged = open[node] != nowOpen;
+        open[node] = nowOpen;
+        due[node] = day;
+        propagateDepth(node);
+        propagateDue(node);
+        if (openChanged) {
+            // 前のタスクが見込む日数（未完了なら1日）も変わる
+            for (int i = 0; i < inDegree[node]; i++) {
+                propagateDue(in[node][i]);
+            }
+        }
+    }
+
+    /**
+     * @return 循環する場合はfalse（グラフは変更しない）
+     */
+    public boolean addEdge(long blockerId, long blockedId) {
+        if (blockerId == blockedId) {
+            return false;
+        }
+        int u = nodeFor(blockerId);
+        int v = nodeFor(blockedId);
+        if (hasEdge(u, v)) {
+            return true;
+        }
+        int lowerBound = ord[v];
+        int upperBound = ord[u];
+        if (lowerBound < upperBound) {
+            int[] forward = collectForward(v, upperBound);
+            if (forward == null) {
+                return false;
+            }
+            int[] backward = collectBackward(u, lowerBound);
+            reorder(backward, forward);
+        }
+        link(u, v);
+        propagateDepth(v);
+        propagateDue(u);
+        return true;
+    }
+
+    public void removeEdge(long blockerId, long blockedId) {
+        int u = nodeOf(blockerId);
+        int v = nodeOf(blockedId);
+        if (u < 0 || v < 0 || !unlink(u, v)) {
+            return;
+        }
+        propagateDepth(v);
+        propagateDue(u);
+    }
+
+    public void removeTask(long taskId) {
+        int node = nodeOf(taskId);
+        if (node < 0 || !alive[node]) {
+            return;
+        }
+        while (outDegree[node] > 0) {
+            int successor = out[node][outDegree[node] - 1];
+            unlink(node, successor);
+            propagateDepth(successor);
+        }
+        while (inDegree[node] > 0) {
+            int predecessor = in[node][inDegree[node] - 1];
+            unlink(predecessor, node);
+            propagateDue(predecessor);
+        }
+        alive[node] = false;
+        open[node] = false;
+        depth[node] = 0;
+        effectiveDue[node] = NO_DUE;
+    }
+
+    public long[] topologicalOrder() {
+        long[] result = new long[size];
+        int count = 0;
+        for (int position = 0; position < size; position++) {
+            int node = at[position];
+            if (alive[node]) {
+                result[count++] = taskIds[node];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // 最も長い未完了タスクの連鎖（同じ長さの場合は実質的な期限が早い方）
+    public List<PathTask> criticalPath() {
+        int end = -1;
+        for (int node = 0; node < size; node++) {
+            if (alive[node] && depth[node] > 0 && (end < 0 || moreCritical(node, end))) {
+                end = node;
+            }
+        }
+        if (end < 0) {
+            return List.of();
+        }
+
+        List<PathTask> path = new ArrayList<>(depth[end]);
+        int current = end;
+        while (true) {
+            if (open[current]) {
+                path.add(new PathTask(taskIds[current], toDate(due[current]), toDate(effectiveDue[current])));
+            }
+            int remaining = depth[current] - (open[current] ? 1 : 0);
+            if (remaining <= 0) {
+                break;
+            }
+            int next = -1;
+            for (int i = 0; i < inDegree[current]; i++) {
+                int predecessor = in[current][i];
+                if (depth[predecessor] == remaining
+                        && (next < 0 || effectiveDue[predecessor] < effectiveDue[next])) {
+                    next = predecessor;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    public record PathTask(long taskId, LocalDate dueDate, LocalDate effectiveDueDate) {
+    }
+
+    // ---------- 順序の維持 ----------
+
+    // vから順序がupperBound未満のノードを辿る（upperBoundのノードに到達した場合は循環のためnull）
+    private int[] collectForward(int v, int upperBound) {
+        IntList visited = new IntList();
+        IntList stack = new IntList();
+        nextStamp();
+        marks[v] = stamp;
+        stack.add(v);
+        while (stack.size > 0) {
+            int node = stack.pop();
+            visited.add(node);
+            for (int i = 0; i < outDegree[node]; i++) {
+                int successor = out[node][i];
+                if (ord[successor] == upperBound) {
+                    return null;
+                }
+                if (marks[successor] != stamp && ord[successor] < upperBound) {
+                    marks[successor] = stamp;
+                    stack.add(successor);
+                }
+            }
+        }
+        return visited.toArray();
+    }
+
+    private int[] collectBackward(int u, int lowerBound) {
+        IntList visited = new IntList();
+        IntList stack = new IntList();
+        nextStamp();
+        marks[u] = stamp;
+        stack.add(u);
+        while (stack.size > 0) {
+            int node = stack.pop();
+            visited.add(node);
+            for (int i = 0; i < inDegree[node]; i++) {
+                int predecessor = in[node][i];
+                if (marks[predecessor] != stamp && ord[predecessor] > lowerBound) {
+                    marks[predecessor] = stamp;
+                    stack.add(predecessor);
+                }
+            }
+        }
+        return visited.toArray();
+    }
+
+    // 影響範囲のノードが使っていた順序の位置に、backward → forwardの順で詰め直す
+    private void reorder(int[] backward, int[] forward) {
+        sortByOrd(backward);
+        sortByOrd(forward);
+        int[] positions = new int[backward.length + forward.length];
+        int[] nodes = new int[positions.length];
+        int k = 0;
+        for (int node : backward) {
+            nodes[k] = node;
+            positions[k++] = ord[node];
+        }
+        for (int node : forward) {
+            nodes[k] = node;
+            positions[k++] = ord[node];
+        }
+        Arrays.sort(positions);
+        for (int i = 0; i < nodes.length; i++) {
+            ord[nodes[i]] = positions[i];
+            at[positions[i]] = nodes[i];
+        }
+    }
+
+    private void sortByOrd(int[] nodes) {
+        long[] keys = new long[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            keys[i] = ((long) ord[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = (int) keys[i];
+        }
+    }
+
+    // 一括読み込み時の順序付け（循環が残っている場合は末尾に置く）
+    private void sortAll() {
+        int[] remaining = Arrays.copyOf(inDegree, size);
+        IntList queue = new IntList();
+        for (int node = 0; node < size; node++) {
+            if (remaining[node] == 0) {
+                queue.add(node);
+            }
+        }
+        int position = 0;
+        nextStamp();
+        for (int head = 0; head < queue.size; head++) {
+            int node = queue.values[head];
+            marks[node] = stamp;
+            ord[node] = position;
+            at[position++] = node;
+            for (int i = 0; i < outDegree[node]; i++) {
+                if (--remaining[out[node][i]] == 0) {
+                    queue.add(out[node][i]);
+                }
+            }
+        }
+        for (int node = 0; node < size; node++) {
+            if (marks[node] != stamp) {
+                ord[node] = position;
+                at[position++] = node;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            depth[at[i]] = computeDepth(at[i]);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            effectiveDue[at[i]] = computeDue(at[i]);
+        }
+    }
+
+    // ---------- 差分伝播 ----------
+
+    // 順序の昇順に処理し、値が変わったノードの後続だけを再計算する
+    private void propagateDepth(int start) {
+        OrdHeap heap = new OrdHeap(false);
+        heap.push(start);
+        while (heap.size > 0) {
+            int node = heap.pop();
+            int value = computeDepth(node);
+            if (value == depth[node]) {
+                continue;
+            }
+            depth[node] = value;
+            for (int i = 0; i < outDegree[node]; i++) {
+                heap.push(out[node][i]);
+            }
+        }
+    }
+
+    private void propagateDue(int start) {
+        OrdHeap heap = new OrdHeap(true);
+        heap.push(start);
+        while (heap.size > 0) {
+            int node = heap.pop();
+            int value = computeDue(node);
+            if (value == effectiveDue[node]) {
+                continue;
+            }
+            effectiveDue[node] = value;
+            for (int i = 0; i < inDegree[node]; i++) {
+                heap.push(in[node][i]);
+            }
+        }
+    }
+
+    private int computeDepth(int node) {
+        int max = 0;
+        for (int i = 0; i < inDegree[node]; i++) {
+            max = Math.max(max, depth[in[node][i]]);
+        }
+        return max + (open[node] ? 1 : 0);
+    }
+
+    private int computeDue(int node) {
+        int min = open[node] ? due[node] : NO_DUE;
+        for (int i = 0; i < outDegree[node]; i++) {
+            int successor = out[node][i];
+            int successorDue = effectiveDue[successor];
+            if (successorDue != NO_DUE && open[successor]) {
+                successorDue--;
+            }
+            min = Math.min(min, successorDue);
+        }
+        return min;
+    }
+
+    private boolean moreCritical(int node, int current) {
+        return depth[node] > depth[current]
+                || (depth[node] == depth[current] && effectiveDue[node] < effectiveDue[current]);
+    }
+
+    // ---------- 隣接配列 ----------
+
+    private boolean hasEdge(int u, int v) {
+        if (outDegree[u] <= inDegree[v]) {
+            return indexOf(out[u], outDegree[u], v) >= 0;
+        }
+        return indexOf(in[v], inDegree[v], u) >= 0;
+    }
+
+    private void link(int u, int v) {
+        if (outDegree[u] == out[u].length) {
+            out[u] = Arrays.copyOf(out[u], Math.max(4, out[u].length * 2));
+        }
+        out[u][outDegree[u]++] = v;
+        if (inDegree[v] == in[v].length) {
+            in[v] = Arrays.copyOf(in[v], Math.max(4, in[v].length * 2));
+        }
+        in[v][inDegree[v]++] = u;
+        edgeCount++;
+    }
+
+    private boolean unlink(int u, int v) {
+        int i = indexOf(out[u], outDegree[u], v);
+        if (i < 0) {
+            return false;
+        }
+        out[u][i] = out[u][--outDegree[u]];
+        int j = indexOf(in[v], inDegree[v], u);
+        in[v][j] = in[v][--inDegree[v]];
+        edgeCount--;
+        return true;
+    }
+
+    private static int indexOf(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ---------- ノード番号 ----------
+
+    private int nodeOf(long taskId) {
+        int mask = slotKeys.length - 1;
+        for (int slot = hash(taskId) & mask; slotKeys[slot] != 0; slot = (slot + 1) & mask) {
+            if (slotKeys[slot] == taskId) {
+                return slotNodes[slot];
+            }
+        }
+        return -1;
+    }
+
+    private int nodeFor(long taskId) {
+        int node = nodeOf(taskId);
+        if (node >= 0) {
+            alive[node] = true;
+            return node;
+        }
+        if (size == taskIds.length) {
+            allocate(size * 2);
+        }
+        node = size++;
+        taskIds[node] = taskId;
+        alive[node] = true;
+        due[node] = NO_DUE;
+        effectiveDue[node] = NO_DUE;
+        out[node] = EMPTY;
+        in[node] = EMPTY;
+        // 新しいノードは辺を持たないため、末尾に置けば順序は崩れない
+        ord[node] = node;
+        at[node] = node;
+        insertSlot(taskId, node);
+        return node;
+    }
+
+    private void insertSlot(long taskId, int node) {
+        int mask = slotKeys.length - 1;
+        int slot = hash(taskId) & mask;
+        while (slotKeys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slotKeys[slot] = taskId;
+        slotNodes[slot] = node;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void allocate(int capacity) {
+        if (taskIds == null) {
+            taskIds = new long[capacity];
+            alive = new boolean[capacity];
+            open = new boolean[capacity];
+            due = new int[capacity];
+            effectiveDue = new int[capacity];
+            depth = new int[capacity];
+            out = new int[capacity][];
+            outDegree = new int[capacity];
+            in = new int[capacity][];
+            inDegree = new int[capacity];
+            ord = new int[capacity];
+            at = new int[capacity];
+            marks = new int[capacity];
+            queued = new boolean[capacity];
+        } else {
+            taskIds = Arrays.copyOf(taskIds, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            open = Arrays.copyOf(open, capacity);
+            due = Arrays.copyOf(due, capacity);
+            effectiveDue = Arrays.copyOf(effectiveDue, capacity);
+            depth = Arrays.copyOf(depth, capacity);
+            out = Arrays.copyOf(out, capacity);
+            outDegree = Arrays.copyOf(outDegree, capacity);
+            in = Arrays.copyOf(in, capacity);
+            inDegree = Arrays.copyOf(inDegree, capacity);
+            ord = Arrays.copyOf(ord, capacity);
+            at = Arrays.copyOf(at, capacity);
+            marks = Arrays.copyOf(marks, capacity);
+            queued = Arrays.copyOf(queued, capacity);
+        }
+
+        // 負荷率50%以下を保つ
+        slotKeys = new long[Integer.highestOneBit(capacity * 4 - 1)];
+        slotNodes = new int[slotKeys.length];
+        for (int node = 0; node < size; node++) {
+            insertSlot(taskIds[node], node);
+        }
+    }
+
+    private void nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(marks, 0);
+            stamp = 1;
+        }
+    }
+
+    private static int toDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NO_DUE;
+    }
+
+    private static LocalDate toDate(int day) {
+        return day != NO_DUE ? LocalDate.ofEpochDay(day) : null;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int pop() {
+            return values[--size];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    // 順序をキーとする二分ヒープ（同じノードは1回だけ入る）
+    private final class OrdHeap {
+        private final boolean descending;
+        private int[] nodes = new int[16];
+        private int size;
+
+        OrdHeap(boolean descending) {
+            this.descending = descending;
+        }
+
+        void push(int node) {
+            if (queued[node]) {
+                return;
+            }
+            queued[node] = true;
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(node, nodes[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            queued[top] = false;
+            int last = nodes[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(nodes[child + 1], nodes[child])) {
+                    child++;
+                }
+                if (!before(nodes[child], last)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            if (size > 0) {
+                nodes[i] = last;
+            }
+            return top;
+        }
+
+        private boolean before(int a, int b) {
+            return descending ? ord[a] > ord[b] : ord[a] < ord[b];
+        }
+    }
+}
+
+// ==========================================
+// 🕸️ TaskDependencyGraphCache.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskDependencyGraphCache.java
+// ==========================================
+package com.taskflow.domain.task.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.TaskDependencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// チーム毎の依存グラフをメモリに保持する
+// task_dependency_versionsと同じバージョンの場合のみ使用し、古ければチームのシャードから読み直す
+// 自インスタンスの変更はコミット後に差分を適用し、他インスタンスの変更はバージョン不一致で検出する
+@Slf4j
+@Component
+public class TaskDependencyGraphCache {
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final Cache<Long, TaskDependencyGraph> graphs;
+
+    public TaskDependencyGraphCache(
+            TaskDependencyRepository taskDependencyRepository,
+            @Value("${taskflow.task.dependency.cached-teams:1000}") int cachedTeams,
+            @Value("${taskflow.task.dependency.cache-idle:PT30M}") Duration cacheIdle) {
+
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.graphs = Caffeine.newBuilder()
+                .maximumSize(cachedTeams)
+                .expireAfterAccess(cacheIdle)
                 .build();
     }
+
+    // 呼び出し元のトランザクション（チームのシャード）で現在のバージョンを確認して読む
+    public <T> T read(Long teamId, Function<TaskDependencyGraph, T> reader) {
+        return read(teamId, taskDependencyRepository.findVersion(teamId).orElse(0L), reader);
+    }
+
+    public <T> T read(Long teamId, long version, Function<TaskDependencyGraph, T> reader) {
+        TaskDependencyGraph graph = graphs.getIfPresent(teamId);
+        if (graph != null) {
+            synchronized (graph) {
+                if (graph.getVersion() == version) {
+                    return reader.apply(graph);
+                }
+            }
+        }
+
+        TaskDependencyGraph loaded = load(teamId, version);
+        graphs.asMap().merge(teamId, loaded, (current, fresh) -> newer(current, fresh));
+        synchronized (loaded) {
+            return reader.apply(loaded);
+        }
+    }
+
+    // コミット後に差分を適用（直前のバージョンを保持していない場合は破棄し、次回読み直す）
+    public void applyAfterCommit(Long teamId, long version, Consumer<TaskDependencyGraph> change) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                TaskDependencyGraph graph = graphs.getIfPresent(teamId);
+                if (graph == null) {
+                    return;
+                }
+                synchronized (graph) {
+                    if (graph.getVersion() >= version) {
+                        return;
+                    }
+                    if (graph.getVersion() == version - 1) {
+                        change.accept(graph);
+                        graph.setVersion(version);
+                        return;
+                    }
+                }
+                graphs.asMap().remove(teamId, graph);
+            }
+        });
+    }
+
+    private TaskDependencyGraph load(Long teamId, long version) {
+        long start = System.nanoTime();
+
+        List<Object[]> tasks = taskDependencyRepository.findGraphTasksByTeamId(teamId);
+        long[] taskIds = new long[tasks.size()];
+        TaskStatus[] statuses = new TaskStatus[tasks.size()];
+        LocalDate[] dueDates = new LocalDate[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            Object[] row = tasks.get(i);
+            taskIds[i] = (Long) row[0];
+            statuses[i] = (TaskStatus) row[1];
+            dueDates[i] = (LocalDate) row[2];
+        }
+
+        List<Object[]> edges = taskDependencyRepository.findEdgesByTeamId(teamId);
+        long[] blockerIds = new long[edges.size()];
+        long[] blockedIds = new long[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            blockerIds[i] = (Long) edges.get(i)[0];
+            blockedIds[i] = (Long) edges.get(i)[1];
+        }
+
+        TaskDependencyGraph graph = TaskDependencyGraph.load(version, taskIds, statuses, dueDates, blockerIds, blockedIds);
+        log.info("依存グラフ読み込み: teamId={}, version={}, tasks={}, edges={}, elapsedMs={}",
+                teamId, version, taskIds.length, edges.size(), (System.nanoTime() - start) / 1_000_000);
+        return graph;
+    }
+
+    private static TaskDependencyGraph newer(TaskDependencyGraph current, TaskDependencyGraph fresh) {
+        synchronized (current) {
+            return current.getVersion() >= fresh.getVersion() ? current : fresh;
+        }
+    }
 }
 
 // ==========================================
-// 📦 TaskRepository.java
-// パス: backend/src/main/java/com/taskflow/domain/task/repository/TaskRepository.java
+// 🔗 TaskDependencyRecorder.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskDependencyRecorder.java
 // ==========================================
-package com.taskflow.domain.task.repository;
+package com.taskflow.domain.task.service;
 
-import com.taskflow.domain.task.entity.Task;
 import com.taskflow.domain.task.entity.TaskStatus;
-import com.taskflow.domain.team.entity.Team;
-import com.taskflow.domain.user.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.stereotype.Repository;
+import com.taskflow.domain.task.repository.TaskDependencyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.function.Consumer;
 
-@Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+// 依存グラフのバージョン更新とメモリ上のグラフへの差分適用
+// 呼び出し元と同じトランザクションで実行する
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TaskDependencyRecorder {
 
-    @Query("SELECT t FROM Task t " +
-           "LEFT JOIN FETCH t.assignee " +
-           "LEFT JOIN FETCH t.createdBy " +
-           "LEFT JOIN FETCH t.team " +
-           "WHERE t.team = :team")
-    Page<Task> findByTeamWithAssignee(@Param("team") Team team, Pageable pageable);
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskDependencyGraphCache taskDependencyGraphCache;
 
-    @Query("SELECT t FROM Task t " +
-           "LEFT JOIN FETCH t.assignee " +
-           "LEFT JOIN FETCH t.createdBy " +
-           "LEFT JOIN FETCH t.team " +
-           "WHERE t.assignee = :user OR t.createdBy = :user")
-    List<Task> findByAssigneeOrCreatedBy(@Param("user") User user);
+    // 状態・期限は臨界経路の計算に使うため、グラフ上のタスク（辺を持つタスク）のみ反映する
+    // 辺の有無に関わらずバージョンを加算する（同時に追加中の辺はコミット前で見えず、判定に使えないため）
+    // 辺の追加が先にコミットされた場合、差分はその後のグラフに適用されるためタスクが含まれる
+    public void recordTaskChanged(Long teamId, Long taskId, TaskStatus status, LocalDate dueDate) {
+        long version = lock(teamId);
+        taskDependencyGraphCache.applyAfterCommit(teamId, version, graph -> {
+            if (graph.containsTask(taskId)) {
+                graph.putTask(taskId, status, dueDate);
+            }
+        });
+    }
 
-    @Query("SELECT t FROM Task t " +
-           "WHERE t.dueDate BETWEEN :startDate AND :endDate " +
-           "AND t.status != 'DONE'")
-    List<Task> findUpcomingTasks(@Param("startDate") LocalDate startDate, 
-                                  @Param("endDate") LocalDate endDate);
+    public void recordTaskDeleted(Long teamId, Long taskId) {
+        if (taskDependencyRepository.deleteByTaskId(taskId) == 0) {
+            return;
+        }
+        long version = lock(teamId);
+        taskDependencyGraphCache.applyAfterCommit(teamId, version, graph -> graph.removeTask(taskId));
+    }
 
-    @Query("SELECT t FROM Task t " +
-           "WHERE t.dueDate < :today " +
-           "AND t.status != 'DONE'")
-    List<Task> findOverdueTasks(@Param("today") LocalDate today);
+    /**
+     * チームのグラフのバージョンを加算し、コミットまで同じチームのグラフ変更を待たせる
+     *
+     * @return 加算後のバージョン（変更前のグラフはversion - 1）
+     */
+    public long lock(Long teamId) {
+        taskDependencyRepository.incrementVersion(teamId);
+        return taskDependencyRepository.findVersion(teamId).orElseThrow();
+    }
 
-    long countByTeamAndStatus(Team team, TaskStatus status);
+    public void applyAfterCommit(Long teamId, long version, Consumer<TaskDependencyGraph> change) {
+        taskDependencyGraphCache.applyAfterCommit(teamId, version, change);
+    }
 }
 
 // ==========================================
-// 📦 TaskService.java
-// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskService.java
+// 🔗 TaskDependencyService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskDependencyService.java
 // ==========================================
 package com.taskflow.domain.task.service;
 
-import com.taskflow.domain.task.dto.request.TaskRequest;
-import com.taskflow.domain.task.dto.response.TaskResponse;
+import com.taskflow.domain.task.dto.response.CriticalPathResponse;
 import com.taskflow.domain.task.entity.Task;
+import com.taskflow.domain.task.entity.TaskDependency;
 import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.TaskDependencyRepository;
 import com.taskflow.domain.task.repository.TaskRepository;
-import com.taskflow.domain.team.entity.Team;
 import com.taskflow.domain.team.service.TeamService;
-import com.taskflow.domain.user.entity.User;
-import com.taskflow.domain.user.service.UserService;
 import com.taskflow.global.exception.BusinessException;
 import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.outbox.OutboxEventType;
+import com.taskflow.global.outbox.OutboxRecorder;
+import com.taskflow.global.shard.ShardKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class TaskService {
+public class TaskDependencyService {
 
     private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskDependencyRecorder taskDependencyRecorder;
+    private final TaskDependencyGraphCache taskDependencyGraphCache;
+    private final OutboxRecorder outboxRecorder;
     private final TeamService teamService;
-    private final UserService userService;
 
-    @Transactional
-    public TaskResponse createTask(Long userId, TaskRequest request) {
-        log.info("タスク作成試行: userId={}, title={}", userId, request.getTitle());
+    // 循環判定はロック取得後にコミット済みの最新の辺を読む必要があるため、READ COMMITTEDで実行する
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void addDependency(@ShardKey(type = ShardKey.Type.TASK) Long taskId, Long blockerTaskId) {
+        log.info("依存関係追加試行: taskId={}, blockerTaskId={}", taskId, blockerTaskId);
 
-        User createdBy = userService.findUserById(userId);
-        Team team = teamService.findTeamById(request.getTeamId());
-        User assignee = request.getAssigneeId() != null 
-                ? userService.findUserById(request.getAssigneeId()) 
-                : null;
+        // 所属チームは変わらないため、ロック前に読んでよい
+        Long teamId = findTask(taskId).getTeam().getId();
+        if (taskId.equals(blockerTaskId) || !teamId.equals(findTask(blockerTaskId).getTeam().getId())) {
+            throw new BusinessException(ErrorCode.INVALID_TASK_DEPENDENCY);
+        }
 
-        Task task = request.toEntity(team, createdBy, assignee);
-        Task savedTask = taskRepository.save(task);
+        long version = taskDependencyRecorder.lock(teamId);
+        // 状態・期限はロック取得後に読み直す（ロック前にコミットされた変更を取りこぼさない。
+        // 以降の変更はこのロックを待ち、次のバージョンとしてグラフに適用される）
+        Object[] blocker = findGraphTask(blockerTaskId);
+        Object[] blocked = findGraphTask(taskId);
+        if (taskDependencyRepository.existsByBlockerTaskIdAndBlockedTaskId(blockerTaskId, taskId)) {
+            taskDependencyRecorder.applyAfterCommit(teamId, version, graph -> { });
+            return;
+        }
+        // ロック取得後の直前バージョンのグラフで判定するため、同時に追加された辺との循環も検出できる
+        if (taskDependencyGraphCache.read(teamId, version - 1, graph -> graph.wouldCreateCycle(blockerTaskId, taskId))) {
+            throw new BusinessException(ErrorCode.TASK_DEPENDENCY_CYCLE);
+        }
 
-        log.info("タスク作成成功: taskId={}", savedTask.getId());
-        return TaskResponse.from(savedTask);
+        taskDependencyRepository.save(TaskDependency.builder()
+                .teamId(teamId)
+                .blockerTaskId(blockerTaskId)
+                .blockedTaskId(taskId)
+                .createdAt(LocalDateTime.now())
+                .build());
+        taskDependencyRecorder.applyAfterCommit(teamId, version, graph -> {
+            graph.putTask(blockerTaskId, (TaskStatus) blocker[0], (LocalDate) blocker[1]);
+            graph.putTask(taskId, (TaskStatus) blocked[0], (LocalDate) blocked[1]);
+            graph.addEdge(blockerTaskId, taskId);
+        });
+        outboxRecorder.record(OutboxEventType.TASK_DEPENDENCY_ADDED, taskId,
+                Map.of("taskId", taskId, "blockerTaskId", blockerTaskId, "teamId", teamId));
+
+        log.info("依存関係追加成功: taskId={}, blockerTaskId={}", taskId, blockerTaskId);
     }
 
-    public Page<TaskResponse> getTasksByTeam(Long teamId, Pageable pageable) {
-        log.info("チーム別タスクリスト照会: teamId={}", teamId);
+    @Transactional
+    public void removeDependency(@ShardKey(type = ShardKey.Type.TASK) Long taskId, Long blockerTaskId) {
+        log.info("依存関係削除試行: taskId={}, blockerTaskId={}", taskId, blockerTaskId);
 
-        Team team = teamService.findTeamById(teamId);
-        Page<Task> tasks = taskRepository.findByTeamWithAssignee(team, pageable);
+        Long teamId = findTask(taskId).getTeam().getId();
+        long version = taskDependencyRecorder.lock(teamId);
+        if (taskDependencyRepository.deleteEdge(blockerTaskId, taskId) == 0) {
+            throw new BusinessException(ErrorCode.TASK_DEPENDENCY_NOT_FOUND);
+        }
+        taskDependencyRecorder.applyAfterCommit(teamId, version, graph -> graph.removeEdge(blockerTaskId, taskId));
+        outboxRecorder.record(OutboxEventType.TASK_DEPENDENCY_REMOVED, taskId,
+                Map.of("taskId", taskId, "blockerTaskId", blockerTaskId, "teamId", teamId));
 
-        return tasks.map(TaskResponse::from);
+        log.info("依存関係削除成功: taskId={}, blockerTaskId={}", taskId, blockerTaskId);
     }
 
-    public TaskResponse getTaskById(Long taskId) {
-        Task task = findTaskById(taskId);
-        return TaskResponse.from(task);
+    // 依存関係を持つタスクを、blockerが必ず先に来る順序で返す
+    public List<Long> getTopologicalOrder(@ShardKey Long teamId) {
+        teamService.findTeamById(teamId);
+        long[] order = taskDependencyGraphCache.read(teamId, TaskDependencyGraph::topologicalOrder);
+        return Arrays.stream(order).boxed().toList();
     }
 
-    public List<TaskResponse> getMyTasks(Long userId) {
-        log.info("自分のタスクリスト照会: userId={}", userId);
+    public CriticalPathResponse getCriticalPath(@ShardKey Long teamId) {
+        teamService.findTeamById(teamId);
+        return CriticalPathResponse.of(teamId, taskDependencyGraphCache.read(teamId, TaskDependencyGraph::criticalPath));
+    }
 
-        User user = userService.findUserById(userId);
-        List<Task> tasks = taskRepository.findByAssigneeOrCreatedBy(user);
+    private Task findTask(Long taskId) {
+        return taskRepository.findById(taskId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
+    }
 
-        return tasks.stream()
-                .map(TaskResponse::from)
-                .collect(Collectors.toList());
+    private Object[] findGraphTask(Long taskId) {
+        return taskDependencyRepository.findGraphTask(taskId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
     }
+}
 
-    @Transactional
-    public TaskResponse updateTask(Long taskId, TaskRequest request) {
-        log.info("タスク修正試行: taskId={}", taskId);
+// ==========================================
+// 🌳 TaskHierarchyService.java
+// パス: backend/src/main/java/com/taskflow/domain/task/service/TaskHierarchyService.java
+// ==========================================
+package com.taskflow.domain.task.service;
 
-        Task task = findTaskById(taskId);
-        User assignee = request.getAssigneeId() != null 
-                ? userService.findUserById(request.getAssigneeId()) 
-                : null;
+import com.taskflow.domain.task.dto.response.SubtaskResponse;
+import com.taskflow.domain.task.dto.response.TaskResponse;
+import com.taskflow.domain.task.dto.response.TaskRollupResponse;
+import com.taskflow.domain.task.entity.Task;
+import com.taskflow.domain.task.repository.TaskClosureRepository;
+import com.taskflow.domain.task.repository.TaskRepository;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.outbox.OutboxEventType;
+import com.taskflow.global.outbox.OutboxRecorder;
+import com.taskflow.global.shard.ShardKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-        task.update(
-                request.getTitle(),
-                request.getDescription(),
-                request.getPriority(),
-                request.getDueDate(),
-                assignee
-        );
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
-        log.info("タスク修正成功: taskId={}", taskId);
-        return TaskResponse.from(task);
-    }
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskHierarchyService {
+
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final OutboxRecorder outboxRecorder;
 
+    /**
+     * 部分木ごと親を付け替える（parentIdがnullの場合は最上位にする）
+     * 部分木の行数に関わらず、切り離し・付け直しはそれぞれ1文で行う
+     */
     @Transactional
-    public TaskResponse changeStatus(Long taskId, TaskStatus newStatus) {
-        log.info("タスク状態変更試行: taskId={}, newStatus={}", taskId, newStatus);
+    public void moveTask(@ShardKey(type = ShardKey.Type.TASK) Long taskId, Long parentId) {
+        log.info("タスク階層移動試行: taskId={}, parentId={}", taskId, parentId);
 
-        Task task = findTaskById(taskId);
-        task.changeStatus(newStatus);
+        Long teamId = findTask(taskId).getTeam().getId();
+        if (parentId != null) {
+            Long parentTeamId = findTask(parentId).getTeam().getId();
+            if (parentId.equals(taskId) || !parentTeamId.equals(teamId)) {
+                throw new BusinessException(ErrorCode.INVALID_TASK_PARENT);
+            }
+            taskClosureRepository.insertSelf(parentId, teamId);
+        }
+        taskClosureRepository.insertSelf(taskId, teamId);
 
-        log.info("タスク状態変更成功: taskId={}", taskId);
-        return TaskResponse.from(task);
-    }
+        List<Long> subtree = taskClosureRepository.lockSubtree(taskId);
+        if (parentId != null) {
+            taskClosureRepository.lockAncestors(parentId);
+            if (subtree.contains(parentId)) {
+                throw new BusinessException(ErrorCode.TASK_HIERARCHY_CYCLE);
+            }
+        }
+        if (Objects.equals(taskClosureRepository.findParentId(taskId).orElse(null), parentId)) {
+            return;
+        }
 
-    @Transactional
-    public void deleteTask(Long taskId) {
-        log.info("タスク削除試行: taskId={}", taskId);
+        int detached = taskClosureRepository.detachSubtree(taskId);
+        int attached = parentId != null ? taskClosureRepository.attachSubtree(taskId, parentId, teamId) : 0;
 
-        Task task = findTaskById(taskId);
-        taskRepository.delete(task);
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", taskId);
+        payload.put("parentId", parentId);
+        payload.put("teamId", teamId);
+        outboxRecorder.record(OutboxEventType.TASK_MOVED, taskId, payload);
 
-        log.info("タスク削除成功: taskId={}", taskId);
+        log.info("タスク階層移動成功: taskId={}, parentId={}, subtree={}, detached={}, attached={}",
+                taskId, parentId, subtree.size(), detached, attached);
     }
 
-    public List<TaskResponse> getUpcomingTasks(int days) {
-        LocalDate today = LocalDate.now();
-        LocalDate endDate = today.plusDays(days);
-
-        List<Task> tasks = taskRepository.findUpcomingTasks(today, endDate);
-        
-        return tasks.stream()
-                .map(TaskResponse::from)
+    public List<SubtaskResponse> getSubtree(@ShardKey(type = ShardKey.Type.TASK) Long taskId) {
+        List<Object[]> rows = taskClosureRepository.findSubtree(taskId);
+        if (rows.isEmpty()) {
+            // 階層に含まれたことが無いタスクは自分だけの部分木
+            return List.of(SubtaskResponse.of(findTask(taskId), 0, null));
+        }
+        return rows.stream()
+                .map(row -> SubtaskResponse.of((Task) row[0], (Integer) row[1], (Long) row[2]))
                 .collect(Collectors.toList());
     }
 
-    public List<TaskResponse> getOverdueTasks() {
-        LocalDate today = LocalDate.now();
-        List<Task> tasks = taskRepository.findOverdueTasks(today);
-        
-        return tasks.stream()
+    public List<TaskResponse> getAncestors(@ShardKey(type = ShardKey.Type.TASK) Long taskId) {
+        findTask(taskId);
+        return taskClosureRepository.findAncestors(taskId).stream()
                 .map(TaskResponse::from)
                 .collect(Collectors.toList());
     }
 
-    public Task findTaskById(Long taskId) {
+    public TaskRollupResponse getRollup(@ShardKey(type = ShardKey.Type.TASK) Long taskId) {
+        findTask(taskId);
+        return TaskRollupResponse.of(taskId, taskClosureRepository.countDescendantsByStatus(taskId));
+    }
+
+    private Task findTask(Long taskId) {
         return taskRepository.findById(taskId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
     }
@@ -425,10 +4887,30 @@ public class TaskService {
 // ==========================================
 package com.taskflow.domain.task.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskflow.domain.task.dto.request.TaskMergePatch;
 import com.taskflow.domain.task.dto.request.TaskRequest;
+import com.taskflow.domain.task.dto.response.ArchivedTaskResponse;
+import com.taskflow.domain.task.dto.response.MemberWorkloadResponse;
+import com.taskflow.domain.task.dto.response.NormalizedTaskListResponse;
+import com.taskflow.domain.task.dto.response.BoardColumnResponse;
+import com.taskflow.domain.task.dto.response.SubtaskResponse;
+import com.taskflow.domain.task.dto.response.CriticalPathResponse;
+import com.taskflow.domain.task.dto.response.TaskBoardResponse;
+import com.taskflow.domain.task.dto.response.TaskImportResponse;
 import com.taskflow.domain.task.dto.response.TaskResponse;
+import com.taskflow.domain.task.dto.response.TaskRollupResponse;
+import com.taskflow.domain.task.dto.response.TaskVersionResponse;
+import com.taskflow.domain.task.dto.response.TeamAnalyticsResponse;
 import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.service.TaskAnalyticsService;
+import com.taskflow.domain.task.service.TaskArchiveService;
+import com.taskflow.domain.task.service.TaskBoardService;
+import com.taskflow.domain.task.service.TaskDependencyService;
+import com.taskflow.domain.task.service.TaskHierarchyService;
+import com.taskflow.domain.task.service.TaskImportService;
 import com.taskflow.domain.task.service.TaskService;
+import com.taskflow.domain.task.service.TaskWorkloadService;
 import com.taskflow.global.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -436,10 +4918,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Task", description = "タスクAPI")
 @RestController
@@ -448,6 +4935,13 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBoardService taskBoardService;
+    private final TaskArchiveService taskArchiveService;
+    private final TaskImportService taskImportService;
+    private final TaskAnalyticsService taskAnalyticsService;
+    private final TaskWorkloadService taskWorkloadService;
+    private final TaskDependencyService taskDependencyService;
+    private final TaskHierarchyService taskHierarchyService;
 
     @Operation(summary = "タスク作成", description = "新しいタスクを作成します")
     @PostMapping
@@ -459,6 +4953,19 @@ public class TaskController {
         return ApiResponse.success("タスクが作成されました", response);
     }
 
+    @Operation(summary = "タスク一括登録（CSV）",
+            description = "UTF-8のCSV（ヘッダー: title,description,priority,dueDate,assigneeEmail）からタスクを登録します。"
+                    + "不正な行はスキップし、行番号とエラー内容を返します")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<TaskImportResponse> importTasks(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam Long teamId,
+            @RequestParam("file") MultipartFile file) {
+
+        TaskImportResponse response = taskImportService.importTasks(userId, teamId, file);
+        return ApiResponse.success("タスクの一括登録が完了しました", response);
+    }
+
     @Operation(summary = "タスクリスト", description = "チーム別タスクリストを照会します（ページング）")
     @GetMapping
     public ApiResponse<Page<TaskResponse>> getTasks(
@@ -469,6 +4976,104 @@ public class TaskController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "タスクリスト（正規化）",
+            description = "view=normalized: タスクは担当者・作成者のIDのみを持ち、ユーザーはusersに1回だけ含めます")
+    @GetMapping(params = {"view=normalized", "!fields"})
+    public ApiResponse<NormalizedTaskListResponse> getTasksNormalized(
+            @RequestParam Long teamId,
+            Pageable pageable) {
+
+        NormalizedTaskListResponse response = taskService.getTasksByTeamNormalized(teamId, pageable);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "タスクリスト（フィールド指定）",
+            description = "fieldsで指定した項目のみ返します（例: fields=id,title,status,priority,assigneeName）")
+    @GetMapping(params = "fields")
+    public ApiResponse<Page<Map<String, Object>>> getTasks(
+            @RequestParam Long teamId,
+            @RequestParam String fields,
+            Pageable pageable) {
+
+        Page<Map<String, Object>> response = taskService.getTasksByTeam(teamId, fields, pageable);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "チーム分析",
+            description = "バーンダウン（日毎の未完了数）、週毎の完了数、作成→完了の平均時間を返します（既定は直近30日）")
+    @GetMapping("/analytics")
+    public ApiResponse<TeamAnalyticsResponse> getAnalytics(
+            @RequestParam Long teamId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        TeamAnalyticsResponse response = taskAnalyticsService.getTeamAnalytics(teamId, start, end);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "メンバー別負荷", description = "チームメンバー毎の未完了タスク数を状態・優先度別に返します")
+    @GetMapping("/workloads")
+    public ApiResponse<List<MemberWorkloadResponse>> getWorkloads(@RequestParam Long teamId) {
+        List<MemberWorkloadResponse> response = taskWorkloadService.getTeamWorkloads(teamId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "カンバンボード", description = "状態毎に優先度・期限順の上位N件と列の総数を返します")
+    @GetMapping("/board")
+    public ApiResponse<TaskBoardResponse> getBoard(
+            @RequestParam Long teamId,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        TaskBoardResponse response = taskBoardService.getBoard(teamId, limit);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "ボード列の続き", description = "nextCursor以降のカードを返します")
+    @GetMapping("/board/columns/{status}")
+    public ApiResponse<BoardColumnResponse> getBoardColumn(
+            @RequestParam Long teamId,
+            @PathVariable TaskStatus status,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        BoardColumnResponse response = taskBoardService.getColumn(teamId, status, cursor, limit);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "依存関係の順序", description = "依存関係を持つタスクを、ブロックしているタスクが先に来る順序で返します")
+    @GetMapping("/dependencies/order")
+    public ApiResponse<List<Long>> getDependencyOrder(@RequestParam Long teamId) {
+        List<Long> response = taskDependencyService.getTopologicalOrder(teamId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "クリティカルパス",
+            description = "未完了タスクの最長の依存連鎖と、後続の期限から求めた各タスクの実質的な期限を返します")
+    @GetMapping("/dependencies/critical-path")
+    public ApiResponse<CriticalPathResponse> getCriticalPath(@RequestParam Long teamId) {
+        CriticalPathResponse response = taskDependencyService.getCriticalPath(teamId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "アーカイブ済みタスク", description = "アーカイブへ移動した完了タスクを照会します（ページング）")
+    @GetMapping("/archive")
+    public ApiResponse<Page<ArchivedTaskResponse>> getArchivedTasks(
+            @RequestParam Long teamId,
+            Pageable pageable) {
+
+        Page<ArchivedTaskResponse> response = taskArchiveService.getArchivedTasks(teamId, pageable);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "アーカイブ済みタスク詳細", description = "アーカイブ済みタスクの詳細を照会します")
+    @GetMapping("/archive/{taskId}")
+    public ApiResponse<ArchivedTaskResponse> getArchivedTask(@PathVariable Long taskId) {
+        ArchivedTaskResponse response = taskArchiveService.getArchivedTask(taskId);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "自分のタスク", description = "自分が作成または割り当てられたタスクを照会します")
     @GetMapping("/my")
     public ApiResponse<List<TaskResponse>> getMyTasks(@AuthenticationPrincipal Long userId) {
@@ -476,6 +5081,24 @@ public class TaskController {
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "自分のタスク（正規化）",
+            description = "view=normalized: タスクは担当者・作成者のIDのみを持ち、ユーザーはusersに1回だけ含めます")
+    @GetMapping(value = "/my", params = {"view=normalized", "!fields"})
+    public ApiResponse<NormalizedTaskListResponse> getMyTasksNormalized(@AuthenticationPrincipal Long userId) {
+        NormalizedTaskListResponse response = taskService.getMyTasksNormalized(userId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "自分のタスク（フィールド指定）", description = "fieldsで指定した項目のみ返します")
+    @GetMapping(value = "/my", params = "fields")
+    public ApiResponse<List<Map<String, Object>>> getMyTasks(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam String fields) {
+
+        List<Map<String, Object>> response = taskService.getMyTasks(userId, fields);
+        return ApiResponse.success(response);
+    }
+
     @Operation(summary = "タスク詳細", description = "特定タスクの詳細情報を照会します")
     @GetMapping("/{taskId}")
     public ApiResponse<TaskResponse> getTaskById(@PathVariable Long taskId) {
@@ -493,16 +5116,83 @@ public class TaskController {
         return ApiResponse.success("タスク情報が修正されました", response);
     }
 
-    @Operation(summary = "状態変更", description = "タスクの状態を変更します")
+    @Operation(summary = "タスク部分更新",
+            description = "JSON Merge Patch（application/merge-patch+json）で指定した項目のみ修正します。" +
+                    "nullを指定すると値を削除します（versionは必須。競合すると409、成功時は更新後のversionを返します）")
+    @PatchMapping(value = "/{taskId}", consumes = TaskMergePatch.MEDIA_TYPE)
+    public ApiResponse<TaskVersionResponse> patchTask(
+            @PathVariable Long taskId,
+            @RequestParam Long version,
+            @RequestBody JsonNode patch) {
+
+        TaskVersionResponse response = taskService.patchTask(taskId, version, TaskMergePatch.parse(patch));
+        return ApiResponse.success("タスク情報が修正されました", response);
+    }
+
+    @Operation(summary = "状態変更", description = "タスクの状態を変更します（version指定時は競合すると409を返します。アーカイブ済みタスクは再オープン時に自動復元）")
     @PatchMapping("/{taskId}/status")
     public ApiResponse<TaskResponse> changeStatus(
             @PathVariable Long taskId,
-            @RequestParam TaskStatus status) {
+            @RequestParam TaskStatus status,
+            @RequestParam(required = false) Long version) {
         
-        TaskResponse response = taskService.changeStatus(taskId, status);
+        TaskResponse response = taskService.changeStatus(taskId, status, version);
         return ApiResponse.success("タスク状態が変更されました", response);
     }
 
+    @Operation(summary = "親タスク変更",
+            description = "サブタスクを含めて親タスクを付け替えます（parentId省略時は最上位。子孫を親にする場合は409）")
+    @PutMapping("/{taskId}/parent")
+    public ApiResponse<Void> moveTask(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) Long parentId) {
+
+        taskHierarchyService.moveTask(taskId, parentId);
+        return ApiResponse.success("親タスクが変更されました", null);
+    }
+
+    @Operation(summary = "サブタスク一覧", description = "指定タスクを起点とする全てのサブタスクを階層の浅い順に返します")
+    @GetMapping("/{taskId}/subtree")
+    public ApiResponse<List<SubtaskResponse>> getSubtree(@PathVariable Long taskId) {
+        List<SubtaskResponse> response = taskHierarchyService.getSubtree(taskId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "親タスクの経路", description = "最上位から直近の親までのタスクを返します")
+    @GetMapping("/{taskId}/ancestors")
+    public ApiResponse<List<TaskResponse>> getAncestors(@PathVariable Long taskId) {
+        List<TaskResponse> response = taskHierarchyService.getAncestors(taskId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "サブタスク集計", description = "全ての子孫タスクの状態別件数と完了率を返します")
+    @GetMapping("/{taskId}/rollup")
+    public ApiResponse<TaskRollupResponse> getRollup(@PathVariable Long taskId) {
+        TaskRollupResponse response = taskHierarchyService.getRollup(taskId);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "依存関係追加",
+            description = "blockerTaskIdが完了するまでtaskIdを開始できない依存関係を追加します（同じチームのみ。循環する場合は409）")
+    @PostMapping("/{taskId}/dependencies")
+    public ApiResponse<Void> addDependency(
+            @PathVariable Long taskId,
+            @RequestParam Long blockerTaskId) {
+
+        taskDependencyService.addDependency(taskId, blockerTaskId);
+        return ApiResponse.success("依存関係が追加されました", null);
+    }
+
+    @Operation(summary = "依存関係削除", description = "依存関係を削除します")
+    @DeleteMapping("/{taskId}/dependencies/{blockerTaskId}")
+    public ApiResponse<Void> removeDependency(
+            @PathVariable Long taskId,
+            @PathVariable Long blockerTaskId) {
+
+        taskDependencyService.removeDependency(taskId, blockerTaskId);
+        return ApiResponse.success("依存関係が削除されました", null);
+    }
+
     @Operation(summary = "タスク削除", description = "タスクを削除します")
     @DeleteMapping("/{taskId}")
     public ApiResponse<Void> deleteTask(@PathVariable Long taskId) {
@@ -523,4 +5213,21 @@ public class TaskController {
         List<TaskResponse> response = taskService.getOverdueTasks();
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "期限迫るタスク（フィールド指定）", description = "fieldsで指定した項目のみ返します")
+    @GetMapping(value = "/upcoming", params = "fields")
+    public ApiResponse<List<Map<String, Object>>> getUpcomingTasks(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam String fields) {
+
+        List<Map<String, Object>> response = taskService.getUpcomingTasks(days, fields);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "期限切れタスク（フィールド指定）", description = "fieldsで指定した項目のみ返します")
+    @GetMapping(value = "/overdue", params = "fields")
+    public ApiResponse<List<Map<String, Object>>> getOverdueTasks(@RequestParam String fields) {
+        List<Map<String, Object>> response = taskService.getOverdueTasks(fields);
+        return ApiResponse.success(response);
+    }
 }
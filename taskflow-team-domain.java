@@ -8,9 +8,14 @@ import com.taskflow.domain.user.entity.User;
 import com.taskflow.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "teams")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -31,10 +36,21 @@ public class Team extends BaseEntity {
     @JoinColumn(name = "created_by", nullable = false)
     private User createdBy;
 
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean deleted = false; // 論理削除（物理削除はバックグラウンドで実行）
+
+    private LocalDateTime deletedAt;
+
     public void update(String name, String description) {
         if (name != null) this.name = name;
         if (description != null) this.description = description;
     }
+
+    public void markDeleted() {
+        this.deleted = true;
+        this.deletedAt = LocalDateTime.now();
+    }
 }
 
 // ==========================================
@@ -47,10 +63,15 @@ import com.taskflow.domain.user.entity.User;
 import com.taskflow.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "team_members", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"team_id", "user_id"}))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teamMember")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -70,6 +91,7 @@ public class TeamMember extends BaseEntity {
     private User user;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private TeamRole role;
 
@@ -97,6 +119,113 @@ public enum TeamRole {
     private final String description;
 }
 
+// ==========================================
+// 🗑️ TeamDeletionJob.java
+// パス: backend/src/main/java/com/taskflow/domain/team/entity/TeamDeletionJob.java
+// ==========================================
+package com.taskflow.domain.team.entity;
+
+import com.taskflow.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "team_deletion_jobs",
+       indexes = @Index(name = "idx_team_deletion_jobs_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TeamDeletionJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long teamId;
+
+    @Column(nullable = false)
+    private Long requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    @Builder.Default
+    private TeamDeletionStatus status = TeamDeletionStatus.PENDING;
+
+    @Builder.Default
+    private long deletedTasks = 0;
+
+    @Builder.Default
+    private long deletedMembers = 0;
+
+    private LocalDateTime completedAt;
+
+    @Column(length = 500)
+    private String failureReason;
+
+    @Builder.Default
+    private int attempts = 0; // 失敗した回数
+
+    private LocalDateTime retryAt; // 失敗後に再実行する日時
+
+    @Version
+    private Long version; // 複数ノードによる同時処理を防止
+
+    public void start() {
+        this.status = TeamDeletionStatus.RUNNING;
+    }
+
+    public void addDeletedTasks(long count) {
+        this.deletedTasks += count;
+    }
+
+    public void addDeletedMembers(long count) {
+        this.deletedMembers += count;
+    }
+
+    public void complete() {
+        this.status = TeamDeletionStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 失敗を記録する（attemptsが上限未満の間はretryAt以降に再実行される）
+     */
+    public void fail(String reason, LocalDateTime retryAt) {
+        this.status = TeamDeletionStatus.FAILED;
+        this.attempts++;
+        this.failureReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+        this.retryAt = retryAt;
+    }
+}
+
+// ==========================================
+// 🔄 TeamDeletionStatus.java
+// パス: backend/src/main/java/com/taskflow/domain/team/entity/TeamDeletionStatus.java
+// ==========================================
+package com.taskflow.domain.team.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TeamDeletionStatus {
+    PENDING("待機中", "削除処理の開始待ち"),
+    RUNNING("処理中", "タスクとメンバーを分割削除中"),
+    COMPLETED("完了", "全データの削除完了"),
+    FAILED("失敗", "削除処理が失敗（上限回数まで自動で再実行）");
+
+    private final String title;
+    private final String description;
+}
+
 // ==========================================
 // 📝 TeamRequest.java
 // パス: backend/src/main/java/com/taskflow/domain/team/dto/request/TeamRequest.java
@@ -166,6 +295,43 @@ public class TeamResponse {
     }
 }
 
+// ==========================================
+// 📤 TeamDeletionResponse.java
+// パス: backend/src/main/java/com/taskflow/domain/team/dto/response/TeamDeletionResponse.java
+// ==========================================
+package com.taskflow.domain.team.dto.response;
+
+import com.taskflow.domain.team.entity.TeamDeletionJob;
+import com.taskflow.domain.team.entity.TeamDeletionStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamDeletionResponse {
+
+    private Long teamId;
+    private TeamDeletionStatus status;
+    private long deletedTasks;
+    private long deletedMembers;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public static TeamDeletionResponse from(TeamDeletionJob job) {
+        return TeamDeletionResponse.builder()
+                .teamId(job.getTeamId())
+                .status(job.getStatus())
+                .deletedTasks(job.getDeletedTasks())
+                .deletedMembers(job.getDeletedMembers())
+                .requestedAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
+
 // ==========================================
 // 📦 TeamRepository.java
 // パス: backend/src/main/java/com/taskflow/domain/team/repository/TeamRepository.java
@@ -174,6 +340,7 @@ package com.taskflow.domain.team.repository;
 
 import com.taskflow.domain.team.entity.Team;
 import com.taskflow.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -188,8 +355,12 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     @Query("SELECT DISTINCT t FROM Team t " +
            "LEFT JOIN TeamMember tm ON tm.team = t " +
-           "WHERE t.createdBy.id = :userId OR tm.user.id = :userId")
+           "WHERE (t.createdBy.id = :userId OR tm.user.id = :userId) " +
+           "AND t.deleted = false")
     List<Team> findTeamsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT t.id FROM Team t WHERE t.deleted = false AND t.id > :afterId ORDER BY t.id")
+    List<Long> findActiveIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
 
 // ==========================================
@@ -201,7 +372,14 @@ package com.taskflow.domain.team.repository;
 import com.taskflow.domain.team.entity.Team;
 import com.taskflow.domain.team.entity.TeamMember;
 import com.taskflow.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -210,13 +388,66 @@ import java.util.Optional;
 @Repository
 public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 
+    // クエリキャッシュ（結果のID一覧のみ保持し、エンティティはteamMember領域から取得）
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "teamMemberQuery")
+    })
     List<TeamMember> findByTeam(Team team);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "teamMemberQuery")
+    })
     List<TeamMember> findByUser(User user);
     
     Optional<TeamMember> findByTeamAndUser(Team team, User user);
     
     boolean existsByTeamAndUser(Team team, User user);
+
+    @Query("SELECT tm.id FROM TeamMember tm WHERE tm.team.id = :teamId")
+    List<Long> findIdsByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TeamMember tm WHERE tm.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
+
+// ==========================================
+// 📦 TeamDeletionJobRepository.java
+// パス: backend/src/main/java/com/taskflow/domain/team/repository/TeamDeletionJobRepository.java
+// ==========================================
+package com.taskflow.domain.team.repository;
+
+import com.taskflow.domain.team.entity.TeamDeletionJob;
+import com.taskflow.domain.team.entity.TeamDeletionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TeamDeletionJobRepository extends JpaRepository<TeamDeletionJob, Long> {
+
+    Optional<TeamDeletionJob> findByTeamId(Long teamId);
+
+    /**
+     * 実行対象のジョブ（未完了、または再実行日時を過ぎた試行回数が上限未満の失敗ジョブ）
+     */
+    @Query("SELECT j FROM TeamDeletionJob j WHERE j.status IN :statuses " +
+           "OR (j.status = :failed AND j.attempts < :maxAttempts AND j.retryAt <= :now) " +
+           "ORDER BY j.id")
+    List<TeamDeletionJob> findRunnable(@Param("statuses") Collection<TeamDeletionStatus> statuses,
+                                       @Param("failed") TeamDeletionStatus failed,
+                                       @Param("maxAttempts") int maxAttempts,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
 }
 
 // ==========================================
@@ -226,22 +457,32 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 package com.taskflow.domain.team.service;
 
 import com.taskflow.domain.team.dto.request.TeamRequest;
+import com.taskflow.domain.team.dto.response.TeamDeletionResponse;
 import com.taskflow.domain.team.dto.response.TeamResponse;
 import com.taskflow.domain.team.entity.Team;
+import com.taskflow.domain.team.entity.TeamDeletionJob;
 import com.taskflow.domain.team.entity.TeamMember;
 import com.taskflow.domain.team.entity.TeamRole;
+import com.taskflow.domain.team.repository.TeamDeletionJobRepository;
 import com.taskflow.domain.team.repository.TeamMemberRepository;
 import com.taskflow.domain.team.repository.TeamRepository;
 import com.taskflow.domain.user.entity.User;
 import com.taskflow.domain.user.service.UserService;
 import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.coalescing.Coalesced;
 import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.outbox.OutboxEventType;
+import com.taskflow.global.outbox.OutboxRecorder;
+import com.taskflow.global.shard.ReferenceTable;
+import com.taskflow.global.shard.ShardKey;
+import com.taskflow.global.shard.ShardRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -252,7 +493,10 @@ public class TeamService {
 
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final TeamDeletionJobRepository teamDeletionJobRepository;
     private final UserService userService;
+    private final OutboxRecorder outboxRecorder;
+    private final ShardRouter shardRouter;
 
     @Transactional
     public TeamResponse createTeam(Long userId, TeamRequest request) {
@@ -262,28 +506,30 @@ public class TeamService {
         Team team = request.toEntity(user);
         Team savedTeam = teamRepository.save(team);
 
-        // 作成者を自動的にリーダーとして追加
+        // 作成者を自動的にリーダーとして追加（シャーディング有効時はチームのシャードへコミット後に追加）
         TeamMember leader = TeamMember.builder()
                 .team(savedTeam)
                 .user(user)
                 .role(TeamRole.LEADER)
                 .build();
-        teamMemberRepository.save(leader);
+        shardRouter.initializeTeam(savedTeam.getId(), () -> teamMemberRepository.save(leader));
+        TeamResponse response = TeamResponse.from(savedTeam);
+        outboxRecorder.record(OutboxEventType.TEAM_CREATED, savedTeam.getId(), response);
 
         log.info("チーム作成成功: teamId={}", savedTeam.getId());
-        return TeamResponse.from(savedTeam);
+        return response;
     }
 
     public List<TeamResponse> getMyTeams(Long userId) {
         log.info("自分のチームリスト照会: userId={}", userId);
         
-        List<Team> teams = teamRepository.findTeamsByUserId(userId);
-        
-        return teams.stream()
+        // 所属チームは複数シャードにまたがり、作成したチームは全シャードに複製されている
+        return shardRouter.gather(() -> teamRepository.findTeamsByUserId(userId).stream()
                 .map(TeamResponse::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()), TeamResponse::getId);
     }
 
+    @Coalesced
     public TeamResponse getTeamById(Long teamId) {
         Team team = findTeamById(teamId);
         return TeamResponse.from(team);
@@ -301,9 +547,12 @@ public class TeamService {
         }
 
         team.update(request.getName(), request.getDescription());
+        shardRouter.replicateAfterCommit(ReferenceTable.TEAMS, teamId);
+        TeamResponse response = TeamResponse.from(team);
+        outboxRecorder.record(OutboxEventType.TEAM_UPDATED, teamId, response);
         
         log.info("チーム修正成功: teamId={}", teamId);
-        return TeamResponse.from(team);
+        return response;
     }
 
     @Transactional
@@ -316,12 +565,31 @@ public class TeamService {
             throw new BusinessException(ErrorCode.NOT_TEAM_LEADER);
         }
 
-        teamRepository.delete(team);
-        log.info("チーム削除成功: teamId={}", teamId);
+        // 論理削除のみ行い、タスクとメンバーはTeamPurgeServiceが分割削除する
+        team.markDeleted();
+        shardRouter.replicateAfterCommit(ReferenceTable.TEAMS, teamId);
+        teamDeletionJobRepository.save(TeamDeletionJob.builder()
+                .teamId(teamId)
+                .requestedBy(userId)
+                .build());
+        outboxRecorder.record(OutboxEventType.TEAM_DELETED, teamId, Map.of("id", teamId));
+
+        log.info("チーム削除受付: teamId={}", teamId);
+    }
+
+    public TeamDeletionResponse getDeletionProgress(Long userId, Long teamId) {
+        TeamDeletionJob job = teamDeletionJobRepository.findByTeamId(teamId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_DELETION_NOT_FOUND));
+
+        if (!job.getRequestedBy().equals(userId)) {
+            throw new BusinessException(ErrorCode.NOT_TEAM_LEADER);
+        }
+
+        return TeamDeletionResponse.from(job);
     }
 
     @Transactional
-    public void inviteMember(Long userId, Long teamId, Long inviteeId) {
+    public void inviteMember(Long userId, @ShardKey Long teamId, Long inviteeId) {
         log.info("メンバー招待試行: userId={}, teamId={}, inviteeId={}", userId, teamId, inviteeId);
 
         Team team = findTeamById(teamId);
@@ -344,15 +612,216 @@ public class TeamService {
                 .build();
         
         teamMemberRepository.save(member);
+        outboxRecorder.record(OutboxEventType.TEAM_MEMBER_ADDED, teamId,
+                Map.of("teamId", teamId, "userId", inviteeId, "role", TeamRole.MEMBER));
         log.info("メンバー招待成功: teamId={}, userId={}", teamId, inviteeId);
     }
 
+    public List<TeamMember> findMembers(@ShardKey Long teamId) {
+        return teamMemberRepository.findByTeam(findTeamById(teamId));
+    }
+
     public Team findTeamById(Long teamId) {
+        // findByIdは2次キャッシュを利用できるため、論理削除はここで判定する
         return teamRepository.findById(teamId)
+                .filter(team -> !team.isDeleted())
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
     }
 }
 
+// ==========================================
+// 🧹 TeamPurgeService.java
+// パス: backend/src/main/java/com/taskflow/domain/team/service/TeamPurgeService.java
+// ==========================================
+package com.taskflow.domain.team.service;
+
+import com.taskflow.domain.task.entity.TaskStatus;
+import com.taskflow.domain.task.repository.ArchivedTaskRepository;
+import com.taskflow.domain.task.repository.TaskClosureRepository;
+import com.taskflow.domain.task.repository.TaskDependencyRepository;
+import com.taskflow.domain.task.repository.TaskRepository;
+import com.taskflow.domain.task.repository.TaskStatusTransitionRepository;
+import com.taskflow.domain.task.repository.TeamDailyStatsRepository;
+import com.taskflow.domain.task.service.TaskWorkloadRecorder;
+import com.taskflow.domain.team.entity.TeamDeletionJob;
+import com.taskflow.domain.team.entity.TeamDeletionStatus;
+import com.taskflow.domain.team.repository.TeamDeletionJobRepository;
+import com.taskflow.domain.team.repository.TeamMemberRepository;
+import com.taskflow.domain.team.repository.TeamRepository;
+import com.taskflow.global.exception.BusinessException;
+import com.taskflow.global.exception.ErrorCode;
+import com.taskflow.global.shard.ShardRouter;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamPurgeService {
+
+    private static final List<TeamDeletionStatus> ACTIVE_STATUSES =
+            List.of(TeamDeletionStatus.PENDING, TeamDeletionStatus.RUNNING);
+
+    private final TeamDeletionJobRepository teamDeletionJobRepository;
+    private final TeamRepository teamRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskStatusTransitionRepository taskStatusTransitionRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskClosureRepository taskClosureRepository;
+    private final TeamDailyStatsRepository teamDailyStatsRepository;
+    private final TaskWorkloadRecorder taskWorkloadRecorder;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${taskflow.team-deletion.chunk-size:500}")
+    private int chunkSize;
+
+    // 一時的な障害（DB・シャードの接続失敗等）で論理削除のままデータが残らないよう、失敗したジョブは再実行する
+    @Value("${taskflow.team-deletion.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${taskflow.team-deletion.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${taskflow.team-deletion.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Scheduled(fixedDelayString = "${taskflow.team-deletion.poll-interval-ms:2000}")
+    public void purgeDeletedTeams() {
+        List<TeamDeletionJob> jobs = teamDeletionJobRepository.findRunnable(ACTIVE_STATUSES,
+                TeamDeletionStatus.FAILED, maxAttempts, LocalDateTime.now(), PageRequest.of(0, 10));
+        jobs.forEach(job -> purge(job.getId()));
+    }
+
+    private void purge(Long jobId) {
+        try {
+            // 1チャンク = 1トランザクションでロック保持時間を短く保つ
+            boolean hasMore = true;
+            while (hasMore) {
+                hasMore = Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeChunk(jobId)));
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.info("他ノードが処理中のためスキップ: jobId={}", jobId);
+        } catch (RuntimeException e) {
+            if (e instanceof BusinessException businessException
+                    && businessException.getErrorCode() == ErrorCode.TEAM_SHARD_MIGRATING) {
+                log.info("シャード移行中のためスキップ: jobId={}", jobId);
+                return;
+            }
+            recordFailure(jobId, e);
+        }
+    }
+
+    private void recordFailure(Long jobId, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> teamDeletionJobRepository.findById(jobId)
+                    .ifPresent(job -> {
+                        job.fail(cause.toString(), LocalDateTime.now().plus(backoff(job.getAttempts())));
+                        if (job.getAttempts() >= maxAttempts) {
+                            log.error("チーム削除処理を中止: jobId={}, teamId={}, attempts={}",
+                                    jobId, job.getTeamId(), job.getAttempts(), cause);
+                        } else {
+                            log.warn("チーム削除処理失敗（再実行）: jobId={}, attempts={}, retryAt={}",
+                                    jobId, job.getAttempts(), job.getRetryAt(), cause);
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            // 記録できなかった場合はRUNNINGのまま残り、次回のポーリングで再実行される
+            log.error("チーム削除処理の失敗を記録できません: jobId={}", jobId, e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private boolean purgeChunk(Long jobId) {
+        TeamDeletionJob job = teamDeletionJobRepository.findById(jobId).orElseThrow();
+        Long teamId = job.getTeamId();
+        job.start();
+
+        // ジョブとチーム行は既定シャード、チームのデータはチームのシャードにある
+        // （同じシャードの場合は従来通り1トランザクション）
+        shardRouter.checkWritable(teamId);
+        PurgedChunk chunk = shardRouter.callInTransactionOn(shardRouter.shardOfTeam(teamId),
+                () -> deleteChunk(teamId));
+        job.addDeletedTasks(chunk.getTasks());
+        job.addDeletedMembers(chunk.getMembers());
+        if (!chunk.isLast()) {
+            return true;
+        }
+
+        teamRepository.findById(teamId).ifPresent(teamRepository::delete);
+        shardRouter.removeTeamAfterCommit(teamId);
+        job.complete();
+
+        log.info("チーム削除完了: teamId={}, tasks={}, members={}",
+                teamId, job.getDeletedTasks(), job.getDeletedMembers());
+        return false;
+    }
+
+    private PurgedChunk deleteChunk(Long teamId) {
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+
+        List<Long> taskIds = taskRepository.findIdsByTeamId(teamId, chunk);
+        if (!taskIds.isEmpty()) {
+            taskWorkloadRecorder.recordPurged(taskRepository.summarizeWorkload(taskIds, TaskStatus.DONE));
+            return new PurgedChunk(taskRepository.deleteByIds(taskIds), 0, false);
+        }
+
+        List<Long> archivedIds = archivedTaskRepository.findIdsByTeamId(teamId, chunk);
+        if (!archivedIds.isEmpty()) {
+            return new PurgedChunk(archivedTaskRepository.deleteByIds(archivedIds), 0, false);
+        }
+
+        List<Long> transitionIds = taskStatusTransitionRepository.findIdsByTeamId(teamId, chunk);
+        if (!transitionIds.isEmpty()) {
+            taskStatusTransitionRepository.deleteByIds(transitionIds);
+            return new PurgedChunk(0, 0, false);
+        }
+
+        List<Long> dependencyIds = taskDependencyRepository.findIdsByTeamId(teamId, chunk);
+        if (!dependencyIds.isEmpty()) {
+            taskDependencyRepository.deleteByIds(dependencyIds);
+            return new PurgedChunk(0, 0, false);
+        }
+
+        if (taskClosureRepository.deleteChunkByTeamId(teamId, chunkSize) > 0) {
+            return new PurgedChunk(0, 0, false);
+        }
+        taskDependencyRepository.deleteVersionByTeamId(teamId);
+        teamDailyStatsRepository.deleteByTeamId(teamId);
+
+        List<Long> memberIds = teamMemberRepository.findIdsByTeamId(teamId, chunk);
+        if (!memberIds.isEmpty()) {
+            return new PurgedChunk(0, teamMemberRepository.deleteByIds(memberIds), false);
+        }
+        return new PurgedChunk(0, 0, true);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PurgedChunk {
+        private final int tasks;
+        private final int members;
+        private final boolean last;
+    }
+}
+
 // ==========================================
 // 📦 TeamController.java
 // パス: backend/src/main/java/com/taskflow/domain/team/controller/TeamController.java
@@ -360,6 +829,7 @@ public class TeamService {
 package com.taskflow.domain.team.controller;
 
 import com.taskflow.domain.team.dto.request.TeamRequest;
+import com.taskflow.domain.team.dto.response.TeamDeletionResponse;
 import com.taskflow.domain.team.dto.response.TeamResponse;
 import com.taskflow.domain.team.service.TeamService;
 import com.taskflow.global.common.ApiResponse;
@@ -415,14 +885,24 @@ public class TeamController {
         return ApiResponse.success("チーム情報が修正されました", response);
     }
 
-    @Operation(summary = "チーム削除", description = "チームを削除します（リーダーのみ）")
+    @Operation(summary = "チーム削除", description = "チームを削除します（リーダーのみ）。データはバックグラウンドで分割削除されます")
     @DeleteMapping("/{teamId}")
     public ApiResponse<Void> deleteTeam(
             @AuthenticationPrincipal Long userId,
             @PathVariable Long teamId) {
         
         teamService.deleteTeam(userId, teamId);
-        return ApiResponse.success("チームが削除されました", null);
+        return ApiResponse.success("チームの削除を受け付けました", null);
+    }
+
+    @Operation(summary = "チーム削除進捗", description = "バックグラウンド削除の進捗を照会します")
+    @GetMapping("/{teamId}/deletion")
+    public ApiResponse<TeamDeletionResponse> getDeletionProgress(
+            @AuthenticationPrincipal Long userId,
+            @PathVariable Long teamId) {
+
+        TeamDeletionResponse response = teamService.getDeletionProgress(userId, teamId);
+        return ApiResponse.success(response);
     }
 
     @Operation(summary = "メンバー招待", description = "チームに新しいメンバーを招待します")